@@ -0,0 +1,87 @@
+package com.example.airpot.benchmark;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking, removal and seat-conflict detection on the Flight aggregate.
+ * Booking and removal are measured as pairs that leave the flight unchanged, so every
+ * invocation sees the same passenger count.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlightBookingBenchmark {
+
+    @Param({"10", "200", "850"})
+    int passengerCount;
+
+    private Flight flight;
+    private List<Passenger> manifest;
+    private Passenger newPassenger;
+    private Passenger lastPassenger;
+    private String takenSeat;
+
+    @Setup
+    public void setUp() {
+        flight = FlightFixtures.flight(passengerCount);
+        manifest = flight.getPassengers();
+        newPassenger = Passenger.builder()
+                .id("68ab27dc2fe70854321d7fff")
+                .name("New Passenger")
+                .seatAssignment(SeatAssignment.of(FlightFixtures.FREE_SEAT, "Economy"))
+                .build();
+        lastPassenger = manifest.get(passengerCount - 1);
+        takenSeat = FlightFixtures.seatNumber(passengerCount / 2);
+    }
+
+    @Benchmark
+    public boolean bookAndRelease() {
+        flight.addPassenger(newPassenger);
+        boolean removed = flight.removePassenger(newPassenger.getId());
+        // normally drained by the outbox relay after the flight is saved
+        flight.getEvents().clear();
+        return removed;
+    }
+
+    @Benchmark
+    public int releaseAndRebook() {
+        flight.removePassenger(lastPassenger.getId());
+        flight.addPassenger(lastPassenger);
+        flight.getEvents().clear();
+        return flight.getPassengerCount();
+    }
+
+    @Benchmark
+    public boolean seatConflictCheck() {
+        return flight.isSeatTaken(takenSeat);
+    }
+
+    /**
+     * Conflict check on a freshly loaded flight, including the lazy rebuild of the occupancy index.
+     */
+    @Benchmark
+    public boolean seatConflictCheckAfterLoad() {
+        flight.setPassengers(manifest);
+        return flight.isSeatTaken(takenSeat);
+    }
+}
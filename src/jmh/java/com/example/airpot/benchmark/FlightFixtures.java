@@ -0,0 +1,80 @@
+package com.example.airpot.benchmark;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.domain.SeatOccupancy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds flights shaped like documents loaded from MongoDB for the benchmarks.
+ * Seats are assigned row by row and wrap around once the 594-seat grid is exhausted, so large
+ * passenger counts (such as 850) contain repeated seats, as legacy manifests may. Seat
+ * {@link #FREE_SEAT} is never assigned and can be booked by benchmarks.
+ *
+ */
+final class FlightFixtures {
+
+    static final String FREE_SEAT = "99F";
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 24, 14, 55, 24, 271_000_000);
+
+    private FlightFixtures() {
+    }
+
+    static String seatNumber(int index) {
+        int seat = index % (SeatOccupancy.CAPACITY - 1);
+        return (seat / SeatOccupancy.SEATS_PER_ROW + 1) + String.valueOf((char) ('A' + seat % SeatOccupancy.SEATS_PER_ROW));
+    }
+
+    static String seatClass(int index) {
+        return switch (index % 10) {
+            case 0 -> "First Class";
+            case 1, 2 -> "Business";
+            default -> "Economy";
+        };
+    }
+
+    static Passenger passenger(int index) {
+        return Passenger.builder()
+                .id(String.format("68ab27dc2fe7085432%06x", index))
+                .name("Passenger " + index)
+                .seatAssignment(SeatAssignment.of(seatNumber(index), seatClass(index)))
+                .createdAt(NOW.minusMinutes(index))
+                .lastModifiedAt(NOW.minusMinutes(index))
+                .build();
+    }
+
+    static Flight flight(int passengerCount) {
+        List<Passenger> passengers = new ArrayList<>(passengerCount);
+        for (int i = 0; i < passengerCount; i++) {
+            passengers.add(passenger(i));
+        }
+        return Flight.builder()
+                .id("68ab27dc2fe70854321d7b09")
+                .flightNumber("UA101")
+                .origin("JFK")
+                .destination("LAX")
+                .scheduledDeparture(NOW.plusHours(2))
+                .scheduledArrival(NOW.plusHours(6))
+                .passengers(passengers)
+                .version(1L)
+                .createdAt(NOW)
+                .lastModifiedAt(NOW)
+                .build();
+    }
+
+    /**
+     * An ObjectMapper configured like the application's (ISO dates, no timestamps).
+     */
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.airpot.benchmark;
+
+import com.example.airpot.config.FlightJsonProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.json.FlightJsonCache;
+import com.example.airpot.json.FlightJsonModule;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a full Flight, as returned by GET /api/flights/{flightNumber}:
+ * Jackson's bean serializers, the hand-written serializers of {@link FlightJsonModule} without
+ * a cache, and with the flight's JSON cached. Setup fails unless all produce the same bytes.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlightSerializationBenchmark {
+
+    @Param({"10", "200", "850"})
+    int passengerCount;
+
+    @Param({"beanSerializer", "handWritten", "cached"})
+    String serializer;
+
+    private ObjectMapper objectMapper;
+    private Flight flight;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = FlightFixtures.objectMapper();
+        flight = FlightFixtures.flight(passengerCount);
+        byte[] expected = FlightFixtures.objectMapper().writeValueAsBytes(flight);
+        if (!serializer.equals("beanSerializer")) {
+            FlightJsonProperties properties = new FlightJsonProperties();
+            if (serializer.equals("handWritten")) {
+                properties.setCacheSize(DataSize.ofBytes(0));
+            }
+            objectMapper.registerModule(new FlightJsonModule(properties,
+                    new FlightJsonCache(properties, new SimpleMeterRegistry())));
+        }
+        if (!Arrays.equals(expected, objectMapper.writeValueAsBytes(flight))) {
+            throw new IllegalStateException(serializer + " output differs from the bean serializers'");
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeFlight() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(flight);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.airpot.benchmark;
+
+import com.example.airpot.config.PassengerStorageProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.repository.FlightQueries;
+import com.example.airpot.repository.SeatAssignmentConverters;
+import com.mongodb.MongoClientSettings;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping and BSON encoding of a Flight document in both passenger storage layouts: a full save
+ * (as when a passenger is removed), a read, and the conditional update of one booking.
+ * The encoded sizes of the document and of the booking update are printed during setup.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PassengerStorageBenchmark {
+
+    private static final Codec<Document> DOCUMENT_CODEC = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+
+    @Param({"10", "200", "850"})
+    int passengerCount;
+
+    @Param({"EMBEDDED", "REFERENCE"})
+    PassengerStorageProperties.Mode mode;
+
+    private MappingMongoConverter converter;
+    private UpdateMapper updateMapper;
+    private MongoPersistentEntity<?> flightEntity;
+    private Flight flight;
+    private RawBsonDocument stored;
+    private Passenger newPassenger;
+
+    @Setup
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(SeatAssignmentConverters.converters());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        updateMapper = new UpdateMapper(converter);
+        flightEntity = mappingContext.getRequiredPersistentEntity(Flight.class);
+
+        flight = FlightFixtures.flight(passengerCount);
+        newPassenger = Passenger.builder()
+                .id("68ab27dc2fe70854321d7fff")
+                .name("New Passenger")
+                .seatAssignment(SeatAssignment.of(FlightFixtures.FREE_SEAT, "Economy"))
+                .build();
+        stored = writeFlight();
+        System.out.printf("%n%s layout, %d passengers: flight document %d bytes, booking update %d bytes%n",
+                mode, passengerCount, stored.getByteBuffer().remaining(), bookPassenger().getByteBuffer().remaining());
+    }
+
+    @Benchmark
+    public RawBsonDocument writeFlight() {
+        Document document = new Document();
+        converter.write(flight, document);
+        if (mode == PassengerStorageProperties.Mode.REFERENCE) {
+            // what PassengerStorageListener does before the document is sent
+            List<?> passengers = document.getList("passengers", Object.class);
+            document.put("passengers", passengers.stream()
+                    .map(passenger -> FlightQueries.seatReference((Document) passenger))
+                    .toList());
+        }
+        return new RawBsonDocument(document, DOCUMENT_CODEC);
+    }
+
+    @Benchmark
+    public Flight readFlight() {
+        return converter.read(Flight.class, stored.decode(DOCUMENT_CODEC));
+    }
+
+    @Benchmark
+    public RawBsonDocument bookPassenger() {
+        Document update = updateMapper.getMappedObject(FlightQueries.appendPassengers(flight.getFlightNumber(),
+                List.of(newPassenger), mode == PassengerStorageProperties.Mode.REFERENCE).getUpdateObject(), flightEntity);
+        return new RawBsonDocument(update, DOCUMENT_CODEC);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.airpot.benchmark;
+
+import com.example.airpot.config.RouteGraphProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domainservice.RouteGraph;
+import com.example.airpot.dto.Itinerary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection search over a synthetic schedule of randomly routed flights spread over one week.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteGraphBenchmark {
+
+    private static final String[] AIRPORTS = {
+            "ATL", "LAX", "ORD", "DFW", "DEN", "JFK", "SFO", "SEA", "LAS", "MCO",
+            "MIA", "CLT", "PHX", "EWR", "IAH", "BOS", "MSP", "DTW", "PHL", "LGA"
+    };
+
+    @Param({"10000", "50000"})
+    int flightCount;
+
+    private RouteGraph routeGraph;
+
+    @Setup
+    public void setUp() {
+        routeGraph = new RouteGraph(null, new RouteGraphProperties());
+        Random random = new Random(42);
+        for (int i = 0; i < flightCount; i++) {
+            String origin = AIRPORTS[random.nextInt(AIRPORTS.length)];
+            String destination;
+            do {
+                destination = AIRPORTS[random.nextInt(AIRPORTS.length)];
+            } while (destination.equals(origin));
+            var departure = FlightFixtures.NOW.plusMinutes(random.nextInt(7 * 24 * 60));
+            routeGraph.add(Flight.builder()
+                    .flightNumber("B" + i)
+                    .origin(origin)
+                    .destination(destination)
+                    .scheduledDeparture(departure)
+                    .scheduledArrival(departure.plusMinutes(60 + random.nextInt(300)))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<Itinerary> twoLegConnections() {
+        return routeGraph.findConnections("JFK", "MIA", FlightFixtures.NOW.plusDays(2), FlightFixtures.NOW.plusDays(3),
+                Duration.ofMinutes(45), Duration.ofHours(6), 2, 20);
+    }
+
+    @Benchmark
+    public List<Itinerary> threeLegConnections() {
+        return routeGraph.findConnections("JFK", "MIA", FlightFixtures.NOW.plusDays(2), FlightFixtures.NOW.plusDays(3),
+                Duration.ofMinutes(45), Duration.ofHours(6), 3, 20);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.airpot.benchmark;
+
+import com.example.airpot.domain.SeatAssignment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Equality and hashing of the SeatAssignment value object.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatAssignmentBenchmark {
+
+    private SeatAssignment seat;
+    private SeatAssignment equalSeat;
+    private SeatAssignment otherSeat;
+
+    @Setup
+    public void setUp() {
+        seat = new SeatAssignment("12A", "First Class");
+        equalSeat = new SeatAssignment(new String("12A"), new String("First Class"));
+        otherSeat = new SeatAssignment("12B", "First Class");
+    }
+
+    @Benchmark
+    public boolean equalsSameSeat() {
+        return seat.equals(equalSeat);
+    }
+
+    @Benchmark
+    public boolean equalsOtherSeat() {
+        return seat.equals(otherSeat);
+    }
+
+    @Benchmark
+    public int hashCodeSeat() {
+        return seat.hashCode();
+    }
+}
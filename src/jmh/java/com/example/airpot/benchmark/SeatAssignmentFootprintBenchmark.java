@@ -0,0 +1,96 @@
+package com.example.airpot.benchmark;
+
+import com.example.airpot.domain.SeatAssignment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap footprint of the seat assignments of 1M passengers, as decoded from stored documents:
+ * the former layout with two Strings per seat, compact instances with a short seat and an
+ * enum class, and the shared instances of {@link SeatAssignment#of(String, String)}.
+ * The retained bytes are measured in setup and printed; the benchmark decodes all seats,
+ * so {@code -prof gc} reports the allocation per 1M passengers.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class SeatAssignmentFootprintBenchmark {
+
+    @Param({"1000000"})
+    int passengerCount;
+
+    @Param({"strings", "compact", "shared"})
+    String layout;
+
+    // the seat number and class of every passenger, encoded as in the stored document
+    private byte[][] seatNumbers;
+    private byte[][] seatClasses;
+
+    /**
+     * The seat assignment of the former layout: seat number and class as decoded Strings.
+     */
+    record StringSeatAssignment(String seatNumber, String seatClass) {
+    }
+
+    @Setup
+    public void setUp() {
+        seatNumbers = new byte[passengerCount][];
+        seatClasses = new byte[passengerCount][];
+        for (int i = 0; i < passengerCount; i++) {
+            seatNumbers[i] = FlightFixtures.seatNumber(i).getBytes();
+            seatClasses[i] = FlightFixtures.seatClass(i).getBytes();
+        }
+
+        Object[] retained = new Object[passengerCount];
+        long before = usedHeap();
+        decode(retained);
+        long bytes = usedHeap() - before;
+        System.out.printf("%n%s seat assignments of %,d passengers: %,d bytes retained (%.1f bytes per passenger, %s)%n",
+                layout, passengerCount, bytes, (double) bytes / passengerCount, retained[passengerCount - 1]);
+    }
+
+    @Benchmark
+    public Object[] decodeSeats() {
+        return decode(new Object[passengerCount]);
+    }
+
+    private Object[] decode(Object[] seats) {
+        for (int i = 0; i < seats.length; i++) {
+            // a BSON string is decoded into a new String, as the Mongo driver does for every document
+            String seatNumber = new String(seatNumbers[i]);
+            String seatClass = new String(seatClasses[i]);
+            seats[i] = switch (layout) {
+                case "strings" -> new StringSeatAssignment(seatNumber, seatClass);
+                case "compact" -> new SeatAssignment(seatNumber, seatClass);
+                case "shared" -> SeatAssignment.of(seatNumber, seatClass);
+                default -> throw new IllegalStateException("Unknown layout " + layout);
+            };
+        }
+        return seats;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -1,15 +1,32 @@
 package com.example.airpot;
 
+import com.example.airpot.domain.AuditClock;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Optional;
 
 @SpringBootApplication
-@EnableMongoAuditing // for auditing callbacks to fire.
+@EnableMongoAuditing(dateTimeProviderRef = "auditDateTimeProvider") // for auditing callbacks to fire.
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class AirpotDomainDemoApplication {
 
     public static void main(String[] args) {
         SpringApplication.run(AirpotDomainDemoApplication.class, args);
     }
 
+    /**
+     * Audit timestamps come from {@link AuditClock}, like the timestamps of the conditional updates.
+     */
+    @Bean
+    public DateTimeProvider auditDateTimeProvider() {
+        return () -> Optional.of(AuditClock.now());
+    }
+
 }
@@ -0,0 +1,137 @@
+package com.example.airpot.cache;
+
+import com.example.airpot.config.FlightCacheProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.dto.SeatMap;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, size- and TTL-evicting in-process cache of flights keyed by flight number.
+ * A second, compact cache remembers whether a flight number exists (including negative
+ * answers), so existence checks rarely need the database.
+ * <p>
+ * Cached flights are shared between requests and must be treated as read-only; mutators
+ * load their own copy from the repository and drop the cached state with {@link #evict(String)}
+ * rather than putting their copy back, which could overwrite a newer state left by a concurrent
+ * eviction; the next read loads the current document.
+ * Seat maps are cached alongside and dropped with every change of their flight.
+ * Hit, miss and eviction statistics are published as {@code cache.*} meters named
+ * "flights", "flightExistence" and "seatMaps".
+ *
+ */
+@Component
+public class FlightCache {
+
+    private final Cache<String, Flight> flights;
+    private final Cache<String, Boolean> existence;
+    private final Cache<String, SeatMap> seatMaps;
+
+    public FlightCache(FlightCacheProperties properties, MeterRegistry meterRegistry) {
+        this.flights = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.existence = Caffeine.newBuilder()
+                .maximumSize(properties.getExistenceMaxSize())
+                .expireAfterWrite(properties.getExistenceTtl())
+                .recordStats()
+                .build();
+        this.seatMaps = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, flights, "flights");
+        CaffeineCacheMetrics.monitor(meterRegistry, existence, "flightExistence");
+        CaffeineCacheMetrics.monitor(meterRegistry, seatMaps, "seatMaps");
+    }
+
+    /**
+     * Returns the cached flight, loading and caching it on a miss.
+     *
+     * @param flightNumber the unique flight number
+     * @param loader loads the flight from the database
+     * @return the flight, or empty if it does not exist
+     */
+    public Optional<Flight> get(String flightNumber, Function<String, Optional<Flight>> loader) {
+        Flight flight = flights.get(flightNumber, key -> loader.apply(key).orElse(null));
+        existence.put(flightNumber, flight != null);
+        return Optional.ofNullable(flight);
+    }
+
+    /**
+     * Returns the cached flight without loading it on a miss.
+     *
+     * @param flightNumber the unique flight number
+     * @return the cached flight, or empty if it is not cached
+     */
+    public Optional<Flight> getIfPresent(String flightNumber) {
+        return Optional.ofNullable(flights.getIfPresent(flightNumber));
+    }
+
+    /**
+     * Returns the cached seat map of a flight, computing and caching it on a miss.
+     *
+     * @param flightNumber the unique flight number
+     * @param loader computes the seat map from the database
+     * @return the seat map, or empty if the flight does not exist
+     */
+    public Optional<SeatMap> getSeatMap(String flightNumber, Function<String, Optional<SeatMap>> loader) {
+        return Optional.ofNullable(seatMaps.get(flightNumber, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * Answers whether a flight exists from the caches, falling back to the given check on a miss.
+     *
+     * @param flightNumber the unique flight number
+     * @param check checks existence in the database
+     * @return true if the flight exists
+     */
+    public boolean exists(String flightNumber, Predicate<String> check) {
+        if (flights.getIfPresent(flightNumber) != null) {
+            return true;
+        }
+        return existence.get(flightNumber, check::test);
+    }
+
+    /**
+     * Records that a flight was created, without caching the created copy.
+     *
+     * @param flightNumber the unique flight number
+     */
+    public void add(String flightNumber) {
+        flights.invalidate(flightNumber);
+        seatMaps.invalidate(flightNumber);
+        existence.put(flightNumber, true);
+    }
+
+    /**
+     * Drops the cached state of a flight after it was changed without reloading it.
+     *
+     * @param flightNumber the unique flight number
+     */
+    public void evict(String flightNumber) {
+        flights.invalidate(flightNumber);
+        seatMaps.invalidate(flightNumber);
+    }
+
+    /**
+     * Records that a flight was deleted.
+     *
+     * @param flightNumber the unique flight number
+     */
+    public void remove(String flightNumber) {
+        flights.invalidate(flightNumber);
+        seatMaps.invalidate(flightNumber);
+        existence.put(flightNumber, false);
+    }
+}
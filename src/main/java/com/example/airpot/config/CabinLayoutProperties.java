@@ -0,0 +1,25 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Cabin layout used for seat maps: the first rows are First Class, followed by Business,
+ * and the remaining rows up to the last seat row are Economy.
+ * Bound from the {@code airpot.cabin-layout} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.cabin-layout")
+public class CabinLayoutProperties {
+
+    /**
+     * Number of First Class rows, starting at row 1.
+     */
+    private int firstClassRows = 2;
+
+    /**
+     * Number of Business rows, following the First Class rows.
+     */
+    private int businessRows = 6;
+}
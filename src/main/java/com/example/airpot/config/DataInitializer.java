@@ -10,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.boot.CommandLineRunner;
 
@@ -20,18 +19,20 @@ import java.util.List;
 
 /**
  * Component responsible for initializing sample data in the database on application startup.
- * Only runs when the "test" profile is not active to avoid interfering with test data.
+ * Only runs when the "test" profile is not active to avoid interfering with test data, and is
+ * replaced by {@link GeneratedScheduleInitializer} under the "generated-schedule" profile.
  *
  */
 @Component
 @RequiredArgsConstructor
-@Profile("!test")  // this bean will NOT load if the "test" profile is active
+@Profile("!test & !generated-schedule")  // this bean will NOT load if the "test" profile is active
 public class DataInitializer implements CommandLineRunner{
 
     private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
     private final FlightRepository flightRepository;
     private final PassengerRepository passengerRepository;
-    private final MongoTemplate mongoTemplate;
+    private final DatabaseReset databaseReset;
+    private final SampleDataProperties properties;
 
     /**
      * Executes on application startup to initialize sample data if the database is empty.
@@ -41,12 +42,12 @@ public class DataInitializer implements CommandLineRunner{
      */
     @Override
     public void run(String... args) throws Exception{
-        if (mongoTemplate.collectionExists("flights")) {
-            mongoTemplate.dropCollection("flights");
-        }
-        if (mongoTemplate.collectionExists("passengers")) {
-            mongoTemplate.dropCollection("passengers");
+        if (!properties.isEnabled()) {
+            log.info("Sample data disabled, keeping the existing collections");
+            return;
         }
+        databaseReset.dropCollections();
+        databaseReset.createIndexes();
 
             log.info("Initializing data...");
             initializeSampleData();
@@ -54,6 +55,7 @@ public class DataInitializer implements CommandLineRunner{
 
     }
 
+
     /**
      * Creates and saves sample flight data with passengers and seat assignments.
      * Initializes three sample flights with different routes and passenger configurations.
@@ -70,12 +72,12 @@ public class DataInitializer implements CommandLineRunner{
         // Flight 1: JFK to LAX
         Passenger johnDoe = Passenger.builder()
                 .name("John Doe")
-                .seatAssignment(new SeatAssignment("12A", "Economy"))
+                .seatAssignment(SeatAssignment.of("12A", "Economy"))
                 .build();
 
         Passenger janeSmith = Passenger.builder()
                 .name("Jane Smith")
-                .seatAssignment( new SeatAssignment("12B", "Economy"))
+                .seatAssignment( SeatAssignment.of("12B", "Economy"))
                 .build();
 
 
@@ -94,11 +96,11 @@ public class DataInitializer implements CommandLineRunner{
         // Flight 2: LAX to JFK
         Passenger aliceJohnson = Passenger.builder()
                 .name("Alice Johnson")
-                .seatAssignment(new SeatAssignment("15A", "Business"))
+                .seatAssignment(SeatAssignment.of("15A", "Business"))
                 .build();
         Passenger bobBrown = Passenger.builder()
                 .name("Bob Brown")
-                .seatAssignment(new SeatAssignment("15B", "Business"))
+                .seatAssignment(SeatAssignment.of("15B", "Business"))
                 .build();
         Flight flight2 = Flight.builder()
                 .flightNumber("UA202")
@@ -114,11 +116,11 @@ public class DataInitializer implements CommandLineRunner{
         // Flight 3: ORD to MIA
         Passenger charlieDavis = Passenger.builder()
                 .name("Charlie Davis")
-                .seatAssignment(new SeatAssignment("18A", "First Class"))
+                .seatAssignment(SeatAssignment.of("18A", "First Class"))
                 .build();
         Passenger dianaWhite = Passenger.builder()
                 .name("Diana White")
-                .seatAssignment(new SeatAssignment("18B", "First Class"))
+                .seatAssignment(SeatAssignment.of("18B", "First Class"))
                 .build();
         Flight flight3 = Flight.builder()
                 .flightNumber("AA303")
@@ -0,0 +1,59 @@
+package com.example.airpot.config;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatHold;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Empties the application's collections before startup data is loaded, and rebuilds
+ * their indexes afterwards.
+ *
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseReset {
+
+    private static final List<String> COLLECTIONS = List.of("flights", "passengers", "seat_holds", "flight_outbox");
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Drops the flights, passengers, seat holds and outbox collections, together with their indexes.
+     */
+    public void dropCollections() {
+        for (String collection : COLLECTIONS) {
+            if (mongoTemplate.collectionExists(collection)) {
+                mongoTemplate.dropCollection(collection);
+            }
+        }
+    }
+
+    /**
+     * Creates the indexes declared on the mapped entities.
+     * Dropping a collection drops its indexes, which auto-index-creation only builds once at startup.
+     */
+    public void createIndexes() {
+        createIndexes(Flight.class);
+        createIndexes(Passenger.class);
+        createIndexes(SeatHold.class);
+    }
+
+    /**
+     * Creates the indexes declared on the mapped entity type.
+     *
+     * @param type the entity type whose index annotations are applied
+     */
+    private void createIndexes(Class<?> type) {
+        IndexOperations indexOperations = mongoTemplate.indexOps(type);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(type)
+                .forEach(indexOperations::createIndex);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the in-memory departure board index.
+ * Bound from the {@code airpot.departure-board} prefix; the periodic reload interval is
+ * {@code airpot.departure-board.refresh-interval}.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.departure-board")
+public class DepartureBoardProperties {
+
+    /**
+     * Whether departure-range summary queries are answered from memory when they fall inside the horizon.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How far ahead of now the index holds departures.
+     */
+    private Duration horizon = Duration.ofHours(48);
+}
@@ -0,0 +1,36 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the in-process flight cache.
+ * Bound from the {@code airpot.cache.flights} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.cache.flights")
+public class FlightCacheProperties {
+
+    /**
+     * Maximum number of flights kept in memory.
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * Time after which a cached flight is reloaded, bounding staleness against writers in other instances.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of flight numbers kept in the existence cache.
+     */
+    private long existenceMaxSize = 100_000;
+
+    /**
+     * Time after which a cached (positive or negative) existence answer expires.
+     */
+    private Duration existenceTtl = Duration.ofSeconds(30);
+}
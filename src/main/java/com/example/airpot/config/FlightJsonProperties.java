@@ -0,0 +1,25 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the hand-written JSON serializers of flights and passengers.
+ * Bound from the {@code airpot.flight-json} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.flight-json")
+public class FlightJsonProperties {
+
+    /**
+     * Whether flights and passengers are written by the hand-written serializers instead of Jackson's bean serializers.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Memory for the JSON of unchanged flights kept between responses; 0 disables the cache.
+     */
+    private DataSize cacheSize = DataSize.ofMegabytes(64);
+}
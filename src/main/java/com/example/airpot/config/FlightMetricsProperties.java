@@ -0,0 +1,19 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the flight document metrics.
+ * Bound from the {@code airpot.metrics.flights} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.metrics.flights")
+public class FlightMetricsProperties {
+
+    /**
+     * One in this many saved flights is encoded again to record its BSON size (1 records every save, 0 none).
+     */
+    private int documentSizeSampleRate = 100;
+}
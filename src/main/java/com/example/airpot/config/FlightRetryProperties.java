@@ -0,0 +1,31 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for retrying Flight aggregate writes that fail optimistic locking.
+ * Bound from the {@code airpot.flight.retry} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.flight.retry")
+public class FlightRetryProperties {
+
+    /**
+     * Total number of attempts, including the first one.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Upper bound of the backoff before the first retry; doubled on every further retry.
+     */
+    private Duration initialBackoff = Duration.ofMillis(10);
+
+    /**
+     * Cap for the exponential backoff.
+     */
+    private Duration maxBackoff = Duration.ofMillis(200);
+}
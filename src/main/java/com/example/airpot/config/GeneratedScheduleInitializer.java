@@ -0,0 +1,106 @@
+package com.example.airpot.config;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replaces the sample data of {@link DataInitializer} with a large synthetic schedule under the
+ * "generated-schedule" profile, for performance work against reproducible datasets.
+ * <p>
+ * Batches of {@link ScheduleGeneratorProperties#getBatchSize()} flights are generated and written
+ * with one {@code insertMany} for the passengers and one for the flights, on
+ * {@link ScheduleGeneratorProperties#getParallelism()} threads. Indexes are built once all
+ * documents are loaded, which is faster than maintaining them during the load. Insert throughput
+ * is logged as the load progresses and at the end.
+ *
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Profile("generated-schedule & !test")
+public class GeneratedScheduleInitializer implements CommandLineRunner {
+
+    private final MongoTemplate mongoTemplate;
+    private final DatabaseReset databaseReset;
+    private final ScheduleGeneratorProperties properties;
+    private final CabinLayoutProperties cabinLayout;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (properties.getFlights() < 1 || properties.getBatchSize() < 1 || properties.getDays() < 1
+                || properties.getParallelism() < 1) {
+            throw new IllegalArgumentException("Flights, batch size, days and parallelism of the schedule generator must be positive");
+        }
+        LocalDate startDate = properties.getStartDate() != null ? properties.getStartDate() : LocalDate.now(ZoneOffset.UTC);
+        ScheduleGenerator generator = new ScheduleGenerator(properties, cabinLayout, startDate);
+        int batches = generator.batchCount();
+        log.info("Generating {} flights from {} over {} days with seed {}, {} batches on {} threads",
+                properties.getFlights(), startDate, properties.getDays(), properties.getSeed(), batches, properties.getParallelism());
+
+        databaseReset.dropCollections();
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicLong flights = new AtomicLong();
+        AtomicLong passengers = new AtomicLong();
+        long started = System.nanoTime();
+        int progressEvery = Math.max(1, batches / 10);
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getParallelism());
+        try {
+            List<Future<?>> futures = new ArrayList<>(batches);
+            for (int i = 0; i < batches; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    ScheduleGenerator.Batch batch = generator.batch(index);
+                    if (!batch.passengers().isEmpty()) {
+                        mongoTemplate.insert(batch.passengers(), Passenger.class);
+                    }
+                    mongoTemplate.insert(batch.flights(), Flight.class);
+                    flights.addAndGet(batch.flights().size());
+                    passengers.addAndGet(batch.passengers().size());
+                    if (completed.incrementAndGet() % progressEvery == 0) {
+                        log.info("Inserted {} flights, {} passengers ({} flights/s)", flights.get(), passengers.get(),
+                                perSecond(flights.get(), System.nanoTime() - started));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Generating the schedule failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        long loaded = System.nanoTime();
+
+        databaseReset.createIndexes();
+        long indexed = System.nanoTime();
+
+        log.info("Generated schedule: {} flights and {} passengers inserted in {} ({} flights/s, {} documents/s), indexes built in {}",
+                flights.get(), passengers.get(), Duration.ofNanos(loaded - started),
+                perSecond(flights.get(), loaded - started), perSecond(flights.get() + passengers.get(), loaded - started),
+                Duration.ofNanos(indexed - loaded));
+    }
+
+    private static long perSecond(long count, long nanos) {
+        return nanos == 0 ? 0 : count * 1_000_000_000L / nanos;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.airpot.config;
+
+import com.example.airpot.AirpotDomainDemoApplication;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+
+/**
+ * Keeps the beans that do work without being asked for out of lazy initialization
+ * ({@code spring.main.lazy-initialization=true}, used by the fast-startup profile):
+ * application beans with {@code @Scheduled} methods, which are only scheduled once the bean exists, and
+ * beans that start something in {@code afterPropertiesSet}, such as the pinning monitor.
+ * Beans reached through event listeners, runners or lifecycle callbacks are created on use anyway.
+ *
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerBackgroundWork() {
+        String applicationPackage = AirpotDomainDemoApplication.class.getPackageName() + ".";
+        return (beanName, beanDefinition, beanType) -> beanType.getName().startsWith(applicationPackage)
+                && (InitializingBean.class.isAssignableFrom(beanType) || hasScheduledMethods(beanType));
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                        || AnnotatedElementUtils.hasAnnotation(method, Schedules.class) ? Boolean.TRUE : null).isEmpty();
+    }
+}
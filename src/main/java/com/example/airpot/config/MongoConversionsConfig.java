@@ -0,0 +1,20 @@
+package com.example.airpot.config;
+
+import com.example.airpot.repository.SeatAssignmentConverters;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+/**
+ * Registers the custom Mongo converters; Spring Boot applies them to both the blocking
+ * and the reactive Mongo templates.
+ *
+ */
+@Configuration
+public class MongoConversionsConfig {
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(SeatAssignmentConverters.converters());
+    }
+}
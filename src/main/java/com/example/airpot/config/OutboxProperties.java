@@ -0,0 +1,28 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the relay that delivers Flight domain events to subscribers.
+ * Bound from the {@code airpot.outbox} prefix; the polling interval is
+ * {@code airpot.outbox.poll-interval}.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.outbox")
+public class OutboxProperties {
+
+    /**
+     * Upper bound for the number of flights, and of outbox documents, drained per poll.
+     */
+    private int batchSize = 200;
+
+    /**
+     * How long a FLIGHT_DELETED event may wait for its delete to complete; after that, an
+     * event whose flight still exists belongs to a delete that never happened and is dropped.
+     */
+    private Duration orphanTimeout = Duration.ofMinutes(1);
+}
@@ -0,0 +1,32 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for passenger name search.
+ * Bound from the {@code airpot.passenger-search} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.passenger-search")
+public class PassengerSearchProperties {
+
+    /**
+     * Whether to answer prefix searches from the in-memory name index; when disabled,
+     * or until the index is loaded, searches use the indexed nameKey field in MongoDB.
+     */
+    private boolean inMemoryIndex = true;
+
+    /**
+     * Upper bound for the number of passengers returned by one search.
+     */
+    private int maxResults = 50;
+
+    /**
+     * How often to check whether the in-memory index must be rebuilt after a delete by criteria.
+     */
+    private Duration rebuildCheckInterval = Duration.ofSeconds(1);
+}
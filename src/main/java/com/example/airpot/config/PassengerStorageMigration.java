@@ -0,0 +1,250 @@
+package com.example.airpot.config;
+
+import com.example.airpot.domain.AuditClock;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domainservice.PassengerNameIndex;
+import com.example.airpot.repository.FlightQueries;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Rewrites the passengers embedded in all stored flights to the configured
+ * {@link PassengerStorageProperties#getMode() passenger storage mode}, on startup when
+ * {@code airpot.passenger-storage.migrate-on-startup=true}.
+ * <p>
+ * Embedded passengers without a passenger document are inserted first, so no passenger is lost
+ * when switching to seat references. Each flight is rewritten with a version-checked update; a
+ * flight changed concurrently is skipped and picked up by the next run, as the migration only
+ * touches flights not yet in the target layout. Finally, passenger documents that no flight
+ * refers to, left behind by removals that only updated the flight, are deleted: the referenced
+ * ids are merged on the server into a temporary collection, so neither side is held in memory.
+ *
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "airpot.passenger-storage", name = "migrate-on-startup", havingValue = "true")
+public class PassengerStorageMigration implements ApplicationRunner {
+
+    static final String REFERENCES_COLLECTION = "passenger_storage_migration_refs";
+
+    private final MongoTemplate mongoTemplate;
+    private final PassengerStorageProperties properties;
+    private final PassengerNameIndex passengerNameIndex;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDateTime startedAt = AuditClock.now();
+        String flights = mongoTemplate.getCollectionName(Flight.class);
+        int rewritten = 0;
+        int skipped = 0;
+
+        log.info("Migrating flights to the {} passenger storage layout", properties.getMode());
+        List<Document> batch = new ArrayList<>(properties.getMigrationBatchSize());
+        try (Stream<Document> stored = mongoTemplate.stream(new Query(), Document.class, flights)) {
+            for (Document flight : (Iterable<Document>) stored::iterator) {
+                batch.add(flight);
+                if (batch.size() == properties.getMigrationBatchSize()) {
+                    BatchResult result = migrate(flights, batch);
+                    rewritten += result.rewritten();
+                    skipped += result.pending() - result.rewritten();
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            BatchResult result = migrate(flights, batch);
+            rewritten += result.rewritten();
+            skipped += result.pending() - result.rewritten();
+        }
+
+        long orphans = deleteOrphans(flights, startedAt);
+        log.info("Passenger storage migration done: {} flights rewritten, {} skipped after concurrent changes, "
+                + "{} orphaned passengers deleted", rewritten, skipped, orphans);
+    }
+
+    private record BatchResult(int pending, int rewritten) {
+    }
+
+    /**
+     * Rewrites the flights of one batch that are not in the target layout yet.
+     */
+    private BatchResult migrate(String flights, List<Document> batch) {
+        insertMissingPassengers(batch);
+
+        Map<Object, Passenger> authoritative = properties.getMode() == PassengerStorageProperties.Mode.EMBEDDED
+                ? findPassengers(batch)
+                : Map.of();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, flights);
+        int pending = 0;
+        for (Document flight : batch) {
+            List<Document> passengers = passengers(flight);
+            List<Document> target = passengers.stream()
+                    .map(passenger -> toTargetLayout(passenger, authoritative))
+                    .toList();
+            if (!target.equals(passengers)) {
+                operations.updateOne(
+                        Query.query(Criteria.where("_id").is(flight.get("_id")).and("version").is(flight.get("version"))),
+                        new Update().set("passengers", target).inc("version", 1));
+                pending++;
+            }
+        }
+        return new BatchResult(pending, pending == 0 ? 0 : operations.execute().getMatchedCount());
+    }
+
+    private Document toTargetLayout(Document passenger, Map<Object, Passenger> authoritative) {
+        if (passenger.get("_id") == null) {
+            // nothing to refer to: keep the passenger embedded in either layout
+            return passenger;
+        }
+        if (properties.getMode() == PassengerStorageProperties.Mode.REFERENCE) {
+            return FlightQueries.seatReference(passenger);
+        }
+        if (!isSeatReference(passenger)) {
+            return passenger;
+        }
+        Passenger resolved = authoritative.get(passenger.get("_id"));
+        if (resolved == null) {
+            // no passenger document: the seat stays taken by the reference
+            return passenger;
+        }
+        Document embedded = new Document();
+        mongoTemplate.getConverter().write(resolved, embedded);
+        embedded.remove("_class");
+        return embedded;
+    }
+
+    /**
+     * Copies embedded passengers that have no passenger document into the passengers collection.
+     */
+    private void insertMissingPassengers(List<Document> batch) {
+        Map<Object, Document> embedded = batch.stream()
+                .flatMap(flight -> passengers(flight).stream())
+                .filter(passenger -> passenger.get("_id") != null && !isSeatReference(passenger))
+                .collect(Collectors.toMap(passenger -> passenger.get("_id"), Function.identity(), (a, b) -> a));
+        if (embedded.isEmpty()) {
+            return;
+        }
+        Query query = Query.query(Criteria.where("_id").in(embedded.keySet()));
+        query.fields().include("_id");
+        Set<Object> existing = mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(Passenger.class))
+                .stream()
+                .map(passenger -> passenger.get("_id"))
+                .collect(Collectors.toSet());
+        List<Passenger> missing = embedded.entrySet().stream()
+                .filter(entry -> !existing.contains(entry.getKey()))
+                .map(entry -> mongoTemplate.getConverter().read(Passenger.class, entry.getValue()))
+                .toList();
+        if (!missing.isEmpty()) {
+            mongoTemplate.insertAll(missing);
+            log.info("Copied {} embedded passengers into the passengers collection", missing.size());
+        }
+    }
+
+    private Map<Object, Passenger> findPassengers(List<Document> batch) {
+        List<Object> ids = batch.stream()
+                .flatMap(flight -> passengers(flight).stream())
+                .filter(PassengerStorageMigration::isSeatReference)
+                .map(passenger -> passenger.get("_id"))
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        String collection = mongoTemplate.getCollectionName(Passenger.class);
+        return mongoTemplate.find(Query.query(Criteria.where("_id").in(ids)), Document.class, collection).stream()
+                .collect(Collectors.toMap(passenger -> passenger.get("_id"),
+                        passenger -> mongoTemplate.getConverter().read(Passenger.class, passenger)));
+    }
+
+    /**
+     * Deletes the passenger documents created before the migration started that no flight refers to.
+     * Passengers created since may belong to a booking whose flight update is still in flight.
+     */
+    private long deleteOrphans(String flights, LocalDateTime startedAt) {
+        collectReferences(flights);
+        String collection = mongoTemplate.getCollectionName(Passenger.class);
+        Query candidates = Query.query(Criteria.where("createdAt").lt(startedAt));
+        candidates.fields().include("_id");
+        long deleted = 0;
+        List<Object> batch = new ArrayList<>(properties.getMigrationBatchSize());
+        try (Stream<Document> passengers = mongoTemplate.stream(candidates, Document.class, collection)) {
+            for (Document passenger : (Iterable<Document>) passengers::iterator) {
+                batch.add(passenger.get("_id"));
+                if (batch.size() == properties.getMigrationBatchSize()) {
+                    deleted += deleteUnreferenced(collection, batch);
+                }
+            }
+            if (!batch.isEmpty()) {
+                deleted += deleteUnreferenced(collection, batch);
+            }
+        } finally {
+            mongoTemplate.dropCollection(REFERENCES_COLLECTION);
+        }
+        return deleted;
+    }
+
+    /**
+     * Writes the id of every passenger embedded in a flight into {@link #REFERENCES_COLLECTION},
+     * with one aggregation that runs on the server.
+     */
+    private void collectReferences(String flights) {
+        // left over by an interrupted run, and outdated by now
+        mongoTemplate.dropCollection(REFERENCES_COLLECTION);
+        mongoTemplate.getCollection(flights).aggregate(List.of(
+                        new Document("$unwind", "$passengers"),
+                        new Document("$match", new Document("passengers._id", new Document("$ne", null))),
+                        new Document("$project", new Document("_id", "$passengers._id")),
+                        new Document("$merge", new Document("into", REFERENCES_COLLECTION)
+                                .append("whenMatched", "keepExisting"))))
+                .allowDiskUse(true)
+                .toCollection();
+    }
+
+    private long deleteUnreferenced(String collection, List<Object> ids) {
+        Query referencedQuery = Query.query(Criteria.where("_id").in(ids));
+        Set<Object> referenced = mongoTemplate.find(referencedQuery, Document.class, REFERENCES_COLLECTION).stream()
+                .map(reference -> reference.get("_id"))
+                .collect(Collectors.toSet());
+        List<Object> orphans = ids.stream().filter(id -> !referenced.contains(id)).toList();
+        ids.clear();
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+        long deleted = mongoTemplate.remove(Query.query(Criteria.where("_id").in(orphans)), collection).getDeletedCount();
+        // removed by collection name, so no mapping event reaches the name index
+        passengerNameIndex.evict(orphans);
+        return deleted;
+    }
+
+    private static boolean isSeatReference(Document passenger) {
+        return passenger.get("name") == null;
+    }
+
+    private static List<Document> passengers(Document flight) {
+        List<Document> passengers = flight.getList("passengers", Document.class);
+        return passengers == null ? List.of() : passengers;
+    }
+}
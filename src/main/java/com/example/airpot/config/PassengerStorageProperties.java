@@ -0,0 +1,41 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of how passengers are stored.
+ * Bound from the {@code airpot.passenger-storage} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.passenger-storage")
+public class PassengerStorageProperties {
+
+    public enum Mode {
+        /**
+         * Flights embed a full copy of every passenger document (the original layout).
+         */
+        EMBEDDED,
+        /**
+         * Flights embed only the passenger id and seat number; the passengers collection is authoritative.
+         */
+        REFERENCE
+    }
+
+    /**
+     * The layout used for flights written from now on. Reads accept both layouts.
+     */
+    private Mode mode = Mode.EMBEDDED;
+
+    /**
+     * Whether to rewrite all stored flights to {@link #mode} on startup and delete
+     * passenger documents no flight refers to.
+     */
+    private boolean migrateOnStartup = false;
+
+    /**
+     * Number of documents per bulk write of the migration.
+     */
+    private int migrationBatchSize = 500;
+}
@@ -0,0 +1,25 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the startup check of FlightRepository query plans.
+ * Bound from the {@code airpot.query-plan-check} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.query-plan-check")
+public class QueryPlanProperties {
+
+    /**
+     * What to do when a query shape is planned as a collection scan.
+     */
+    public enum Mode {
+        OFF,
+        WARN,
+        FAIL
+    }
+
+    private Mode mode = Mode.WARN;
+}
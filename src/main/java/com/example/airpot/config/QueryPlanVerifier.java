@@ -0,0 +1,118 @@
+package com.example.airpot.config;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.repository.FlightQueries;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs {@code explain()} for the query shapes issued by {@code FlightRepository} once the
+ * application is ready, and warns about or fails on any shape planned as a COLLSCAN.
+ * Catches indexes that are missing or no longer match a query after a model change.
+ * Runs after the command line runners, so collections re-created by {@link DataInitializer} are checked.
+ *
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryPlanVerifier {
+
+    private static final String COLLSCAN = "COLLSCAN";
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryPlanProperties properties;
+
+    /**
+     * Explains every known query shape and reports the ones that scan the whole collection.
+     *
+     * @throws IllegalStateException in FAIL mode if any query shape is planned as a COLLSCAN
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyQueryPlans() {
+        if (properties.getMode() == QueryPlanProperties.Mode.OFF) {
+            return;
+        }
+
+        Map<String, Query> shapes = queryShapes();
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(Flight.class);
+        List<String> collectionScans = new ArrayList<>();
+        shapes.forEach((name, query) -> {
+            Document plan = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Flight.class))
+                    .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                    .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                    .explain();
+            Object winningPlan = ((Document) plan.get("queryPlanner")).get("winningPlan");
+            if (containsStage(winningPlan, COLLSCAN)) {
+                collectionScans.add(name);
+            } else {
+                log.debug("Query {} is index-backed", name);
+            }
+        });
+
+        if (collectionScans.isEmpty()) {
+            log.info("All {} FlightRepository query shapes are index-backed", shapes.size());
+            return;
+        }
+        String message = "FlightRepository queries planned as COLLSCAN: " + collectionScans;
+        if (properties.getMode() == QueryPlanProperties.Mode.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * The FlightRepository queries with representative parameter values, built like the
+     * repository builds them: from {@link FlightQueries}, or matching the derived and
+     * {@code @Query} methods, with the sort each method uses.
+     * Unfiltered reads such as findAll are full scans by design and not listed.
+     */
+    private static Map<String, Query> queryShapes() {
+        LocalDateTime now = LocalDateTime.now();
+        Passenger passenger = Passenger.builder().seatAssignment(SeatAssignment.of("12A", "Economy")).build();
+
+        Map<String, Query> shapes = new LinkedHashMap<>();
+        shapes.put("findByFlightNumber", Query.query(Criteria.where("flightNumber").is("UA101")));
+        shapes.put("findByOrigin", Query.query(Criteria.where("origin").is("JFK")));
+        shapes.put("findByDestination", Query.query(Criteria.where("destination").is("LAX")));
+        shapes.put("findByRoute", Query.query(FlightQueries.route("JFK", "LAX")).with(FlightQueries.DEPARTURE_ORDER));
+        shapes.put("findFlightsByDepartureTimeRange",
+                Query.query(FlightQueries.departureRange(now, now)).with(FlightQueries.DEPARTURE_ORDER));
+        shapes.put("addPassengerIfSeatAvailable", FlightQueries.seatAvailable("UA101", passenger, null, Instant.now()));
+        shapes.put("findPageAfter", FlightQueries.pageAfter(now, new ObjectId().toHexString(), 50));
+        shapes.put("findWithPendingEvents", FlightQueries.pendingEvents(100));
+        return shapes;
+    }
+
+    private static boolean containsStage(Object node, String stage) {
+        if (node instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the in-memory route graph used by the connection search.
+ * Bound from the {@code airpot.route-graph} prefix; the periodic rebuild interval is
+ * {@code airpot.route-graph.refresh-interval}.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.route-graph")
+public class RouteGraphProperties {
+
+    /**
+     * Upper bound for the number of legs of a connection.
+     */
+    private int maxLegs = 4;
+
+    /**
+     * Upper bound for the number of itineraries returned by one search.
+     */
+    private int maxResults = 100;
+}
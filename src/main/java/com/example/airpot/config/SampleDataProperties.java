@@ -0,0 +1,21 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the sample flights loaded by {@link DataInitializer}.
+ * Bound from the {@code airpot.sample-data} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.sample-data")
+public class SampleDataProperties {
+
+    /**
+     * Whether to drop all collections on startup and reseed them with the sample flights.
+     * Checked at runtime rather than as a bean condition, so it can be switched for an
+     * application built with AOT processing.
+     */
+    private boolean enabled = true;
+}
@@ -0,0 +1,274 @@
+package com.example.airpot.config;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.domain.SeatOccupancy;
+import org.bson.types.ObjectId;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of a synthetic flight schedule.
+ * <p>
+ * Routes connect a fixed set of airports, picked in proportion to their traffic; the aircraft,
+ * and with it the number of seat rows, follows from the route distance, and the block time from
+ * the distance as well. Departures are spread over the configured days with a daily wave profile.
+ * Every cabin of the {@link CabinLayoutProperties cabin layout} is filled to its own load factor,
+ * which decreases with the days left until departure.
+ * <p>
+ * Every batch draws from its own random stream derived from the seed and the batch index, and
+ * ids are derived from the flight index, so a batch has the same content whichever thread
+ * generates it and in whichever order.
+ *
+ */
+final class ScheduleGenerator {
+
+    record Airport(String code, double latitude, double longitude, int weight) {
+    }
+
+    record Batch(List<Flight> flights, List<Passenger> passengers) {
+    }
+
+    /**
+     * Large airports with their approximate yearly passengers in millions as weight.
+     */
+    static final List<Airport> AIRPORTS = List.of(
+            new Airport("ATL", 33.64, -84.43, 104),
+            new Airport("DXB", 25.25, 55.36, 87),
+            new Airport("DFW", 32.90, -97.04, 82),
+            new Airport("LHR", 51.47, -0.45, 79),
+            new Airport("HND", 35.55, 139.78, 79),
+            new Airport("DEN", 39.86, -104.67, 78),
+            new Airport("IST", 41.26, 28.74, 76),
+            new Airport("LAX", 33.94, -118.41, 75),
+            new Airport("ORD", 41.97, -87.91, 74),
+            new Airport("DEL", 28.56, 77.10, 72),
+            new Airport("CDG", 49.01, 2.55, 67),
+            new Airport("JFK", 40.64, -73.78, 62),
+            new Airport("CAN", 23.39, 113.30, 63),
+            new Airport("AMS", 52.31, 4.76, 62),
+            new Airport("MAD", 40.49, -3.57, 60),
+            new Airport("FRA", 50.04, 8.56, 59),
+            new Airport("SIN", 1.36, 103.99, 59),
+            new Airport("PVG", 31.14, 121.81, 55),
+            new Airport("LAS", 36.08, -115.15, 57),
+            new Airport("ICN", 37.46, 126.44, 56),
+            new Airport("MCO", 28.43, -81.31, 57),
+            new Airport("MIA", 25.79, -80.29, 52),
+            new Airport("CLT", 35.21, -80.94, 53),
+            new Airport("SEA", 47.45, -122.31, 51),
+            new Airport("BCN", 41.30, 2.08, 50),
+            new Airport("SFO", 37.62, -122.38, 50),
+            new Airport("EWR", 40.69, -74.17, 49),
+            new Airport("BOM", 19.09, 72.87, 48),
+            new Airport("DOH", 25.27, 51.61, 46),
+            new Airport("MUC", 48.35, 11.79, 37),
+            new Airport("SYD", -33.95, 151.18, 37),
+            new Airport("HKG", 22.31, 113.92, 40),
+            new Airport("YYZ", 43.68, -79.63, 45),
+            new Airport("BOS", 42.36, -71.01, 40),
+            new Airport("FCO", 41.80, 12.25, 40),
+            new Airport("GRU", -23.43, -46.47, 40),
+            new Airport("MEX", 19.44, -99.07, 48),
+            new Airport("LGW", 51.15, -0.19, 41),
+            new Airport("ACC", 5.61, -0.17, 3),
+            new Airport("JNB", -26.14, 28.25, 18));
+
+    private static final String[] CARRIERS = {"UA", "AA", "DL", "BA", "LH", "AF", "KL", "EK", "QR", "SQ", "NH", "TK", "IB", "AC", "KQ"};
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "Kwame", "Ama", "Wei", "Yuki", "Olga", "Carlos", "Priya",
+            "Fatima", "Liam", "Emma", "Noah", "Sofia", "Lucas", "Amara", "Hiroshi", "Ines", "Mateo", "Chloe"};
+
+    private static final String[] LAST_NAMES = {"Smith", "Mensah", "Garcia", "Chen", "Tanaka", "Ivanova", "Patel", "Boateng",
+            "Muller", "Rossi", "Silva", "Kim", "Nguyen", "Dubois", "Okafor", "Johansson", "Haddad", "Kowalski", "Lopez", "Owusu"};
+
+    /**
+     * Relative departures per hour of the day: quiet nights, morning and evening banks.
+     */
+    private static final int[] DEPARTURE_HOUR_WEIGHTS = {1, 1, 1, 1, 2, 4, 8, 10, 10, 8, 7, 6, 6, 6, 6, 7, 8, 9, 9, 8, 6, 4, 3, 2};
+
+    private static final byte FLIGHT_ID = 1;
+    private static final byte PASSENGER_ID = 2;
+
+    private final ScheduleGeneratorProperties properties;
+    private final CabinLayoutProperties cabinLayout;
+    private final LocalDate startDate;
+    private final int idTimestamp;
+    private final int[] airportCumulativeWeights;
+    private final int[] hourCumulativeWeights;
+
+    ScheduleGenerator(ScheduleGeneratorProperties properties, CabinLayoutProperties cabinLayout, LocalDate startDate) {
+        this.properties = properties;
+        this.cabinLayout = cabinLayout;
+        this.startDate = startDate;
+        this.idTimestamp = (int) startDate.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        this.airportCumulativeWeights = cumulative(AIRPORTS.stream().mapToInt(Airport::weight).toArray());
+        this.hourCumulativeWeights = cumulative(DEPARTURE_HOUR_WEIGHTS);
+    }
+
+    int batchCount() {
+        return Math.ceilDiv(properties.getFlights(), properties.getBatchSize());
+    }
+
+    /**
+     * Generates the flights of one batch and, unless disabled, their passengers.
+     *
+     * @param index the batch index, from 0 to {@link #batchCount()} exclusive
+     * @return the flights, with their passengers embedded, and the same passengers as documents of their own
+     */
+    Batch batch(int index) {
+        SplittableRandom random = new SplittableRandom(properties.getSeed() ^ (index * 0x9E3779B97F4A7C15L));
+        int from = index * properties.getBatchSize();
+        int to = Math.min(from + properties.getBatchSize(), properties.getFlights());
+        List<Flight> flights = new ArrayList<>(to - from);
+        List<Passenger> passengers = new ArrayList<>();
+        for (int flightIndex = from; flightIndex < to; flightIndex++) {
+            Flight flight = flight(flightIndex, random);
+            passengers.addAll(flight.getPassengers());
+            flights.add(flight);
+        }
+        return new Batch(flights, passengers);
+    }
+
+    private Flight flight(int flightIndex, SplittableRandom random) {
+        Airport origin = pickAirport(random, null);
+        Airport destination = pickAirport(random, origin);
+        double distance = distanceKm(origin, destination);
+
+        int day = random.nextInt(properties.getDays());
+        int hour = pick(hourCumulativeWeights, random);
+        LocalDateTime departure = startDate.plusDays(day).atTime(hour, random.nextInt(12) * 5);
+        // cruise at 800 km/h plus 30 minutes of taxi, climb and approach, to the next 5 minutes
+        long blockMinutes = Math.ceilDiv(Math.round(distance / 800 * 60) + 30, 5) * 5;
+
+        Flight flight = Flight.builder()
+                .id(objectId(FLIGHT_ID, flightIndex))
+                .flightNumber(CARRIERS[random.nextInt(CARRIERS.length)] + (1000 + flightIndex))
+                .origin(origin.code())
+                .destination(destination.code())
+                .scheduledDeparture(departure)
+                .scheduledArrival(departure.plusMinutes(blockMinutes))
+                .build();
+        if (properties.isPassengers()) {
+            flight.setPassengers(passengers(flightIndex, rows(distance, random), day, departure, random));
+        }
+        return flight;
+    }
+
+    /**
+     * Narrow-bodies on short routes, wide-bodies on long-haul, the largest ones on ultra long-haul.
+     */
+    private static int rows(double distanceKm, SplittableRandom random) {
+        if (distanceKm < 3000) {
+            return 30 + random.nextInt(8);
+        }
+        if (distanceKm < 9000) {
+            return 45 + random.nextInt(10);
+        }
+        return 60 + random.nextInt(SeatOccupancy.ROWS - 60 + 1);
+    }
+
+    private List<Passenger> passengers(int flightIndex, int rows, int daysOut, LocalDateTime departure,
+                                       SplittableRandom random) {
+        // bookings build up towards departure
+        double curve = 1.0 - 0.6 * daysOut / Math.max(1, properties.getDays());
+        double loadFactor = clamp(properties.getLoadFactor() * curve + random.nextGaussian() * 0.08);
+
+        int firstClassEnd = Math.min(cabinLayout.getFirstClassRows(), rows);
+        int businessEnd = Math.min(firstClassEnd + cabinLayout.getBusinessRows(), rows);
+        List<Passenger> passengers = new ArrayList<>((int) (rows * SeatOccupancy.SEATS_PER_ROW * loadFactor) + 1);
+        addCabin(passengers, flightIndex, 0, firstClassEnd, "First Class", clamp(loadFactor * 0.6), departure, random);
+        addCabin(passengers, flightIndex, firstClassEnd, businessEnd, "Business", clamp(loadFactor * 0.8), departure, random);
+        addCabin(passengers, flightIndex, businessEnd, rows, "Economy", clamp(loadFactor * 1.05), departure, random);
+        return passengers;
+    }
+
+    private void addCabin(List<Passenger> passengers, int flightIndex, int fromRow, int toRow, String seatClass,
+                          double loadFactor, LocalDateTime departure, SplittableRandom random) {
+        int fromSeat = fromRow * SeatOccupancy.SEATS_PER_ROW;
+        int seats = (toRow - fromRow) * SeatOccupancy.SEATS_PER_ROW;
+        int booked = (int) Math.round(seats * loadFactor);
+        int[] order = new int[seats];
+        for (int i = 0; i < seats; i++) {
+            order[i] = fromSeat + i;
+        }
+        // partial Fisher-Yates: the first `booked` entries are a random choice of seats
+        for (int i = 0; i < booked; i++) {
+            int j = i + random.nextInt(seats - i);
+            int seat = order[j];
+            order[j] = order[i];
+            order[i] = seat;
+
+            LocalDateTime bookedAt = departure.minusMinutes(random.nextInt(60 * 24 * 90));
+            passengers.add(Passenger.builder()
+                    .id(objectId(PASSENGER_ID, (long) flightIndex * SeatOccupancy.CAPACITY + seat))
+                    .name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                    .seatAssignment(SeatAssignment.of(seatNumber(seat), seatClass))
+                    .createdAt(bookedAt)
+                    .lastModifiedAt(bookedAt)
+                    .build());
+        }
+    }
+
+    private static String seatNumber(int seat) {
+        return (seat / SeatOccupancy.SEATS_PER_ROW + 1) + String.valueOf((char) ('A' + seat % SeatOccupancy.SEATS_PER_ROW));
+    }
+
+    /**
+     * An ObjectId made of the start date, a kind byte and the index, so ids are reproducible.
+     */
+    private String objectId(byte kind, long index) {
+        ByteBuffer bytes = ByteBuffer.allocate(12).putInt(idTimestamp).put(kind);
+        for (int shift = 48; shift >= 0; shift -= 8) {
+            bytes.put((byte) (index >>> shift));
+        }
+        return new ObjectId(bytes.array()).toHexString();
+    }
+
+    private Airport pickAirport(SplittableRandom random, Airport other) {
+        Airport airport;
+        do {
+            airport = AIRPORTS.get(pick(airportCumulativeWeights, random));
+        } while (airport == other);
+        return airport;
+    }
+
+    private static int pick(int[] cumulativeWeights, SplittableRandom random) {
+        int target = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (cumulativeWeights[index] <= target) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int[] cumulative(int[] weights) {
+        int[] cumulative = new int[weights.length];
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    static double distanceKm(Airport from, Airport to) {
+        double lat1 = Math.toRadians(from.latitude());
+        double lat2 = Math.toRadians(to.latitude());
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(to.longitude() - from.longitude());
+        double a = Math.pow(Math.sin(dLat / 2), 2) + Math.cos(lat1) * Math.cos(lat2) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * 6371 * Math.asin(Math.sqrt(a));
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+
+/**
+ * Size and shape of the synthetic schedule loaded under the "generated-schedule" profile.
+ * Bound from the {@code airpot.schedule-generator} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.schedule-generator")
+public class ScheduleGeneratorProperties {
+
+    /**
+     * Number of flights to generate; with passengers, each flight brings about 200 passenger documents.
+     */
+    private int flights = 100_000;
+
+    /**
+     * Seed of the generator; the same seed, start date and sizes produce the same dataset.
+     */
+    private long seed = 42L;
+
+    /**
+     * First day of the schedule, or null for the day the generator runs.
+     */
+    private LocalDate startDate;
+
+    /**
+     * Number of days the departures are spread over.
+     */
+    private int days = 30;
+
+    /**
+     * Mean share of seats booked on a flight departing tomorrow; flights further out are emptier.
+     */
+    private double loadFactor = 0.82;
+
+    /**
+     * Whether to book passengers onto the flights at all; flights-only datasets load much faster.
+     */
+    private boolean passengers = true;
+
+    /**
+     * Number of flights per {@code insertMany}.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Number of batches generated and inserted concurrently.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+}
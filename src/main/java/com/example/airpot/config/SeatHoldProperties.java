@@ -0,0 +1,26 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for time-limited seat holds.
+ * Bound from the {@code airpot.seat-holds} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.seat-holds")
+public class SeatHoldProperties {
+
+    /**
+     * How long a seat stays held before it is released unless the booking is confirmed.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Resolution of the expiry timer wheel and interval of the expiry task.
+     */
+    private Duration tick = Duration.ofMillis(100);
+}
@@ -0,0 +1,76 @@
+package com.example.airpot.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs where virtual threads get pinned to their carrier thread (blocking inside
+ * {@code synchronized} code or a native frame), using the {@code jdk.VirtualThreadPinned}
+ * JFR event. A pinned request thread blocks a carrier, so under load a few pinning call
+ * sites in the web or driver path cap throughput at the carrier pool size.
+ * Pinning counts and durations are published separately as {@code jvm.threads.virtual.pinned}.
+ * Only active in virtual-thread mode.
+ *
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 15;
+
+    private final VirtualThreadProperties properties;
+    private RecordingStream recordingStream;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.isPinningLog()) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(properties.getPinningThreshold())
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+        log.info("Logging virtual thread pinning longer than {}", properties.getPinningThreshold());
+    }
+
+    private void report(RecordedEvent event) {
+        StringBuilder stack = new StringBuilder();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            int frames = 0;
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frames++ == MAX_FRAMES) {
+                    stack.append(System.lineSeparator()).append("\t...");
+                    break;
+                }
+                stack.append(System.lineSeparator()).append("\tat ")
+                        .append(frame.getMethod().getType().getName()).append('.')
+                        .append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+        }
+        log.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), stack);
+    }
+
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.airpot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the diagnostics of the virtual-thread execution mode.
+ * The mode itself is switched with {@code spring.threads.virtual.enabled}, which the
+ * {@code virtual-threads} profile sets together with these diagnostics.
+ * Bound from the {@code airpot.virtual-threads} prefix.
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = "airpot.virtual-threads")
+public class VirtualThreadProperties {
+
+    /**
+     * Whether to log the stack trace of virtual threads pinned to their carrier thread.
+     */
+    private boolean pinningLog;
+
+    /**
+     * Minimum pinned duration to report.
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
@@ -4,19 +4,33 @@ import com.example.airpot.domain.Flight;
 import com.example.airpot.domain.Passenger;
 import com.example.airpot.domain.SeatAssignment;
 import com.example.airpot.domainservice.FlightService;
+import com.example.airpot.dto.BatchPassengerRequest;
+import com.example.airpot.dto.FlightPage;
 import com.example.airpot.dto.FlightRequest;
+import com.example.airpot.dto.FlightSummary;
+import com.example.airpot.dto.Itinerary;
+import com.example.airpot.dto.PassengerBookingResult;
 import com.example.airpot.dto.PassengerRequest;
+import com.example.airpot.dto.SeatMap;
 import com.example.airpot.factory.FlightFactory;
-import com.example.airpot.repository.FlightRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * REST controller for managing flight operations.
@@ -26,11 +40,15 @@ import java.util.Optional;
  */
 @RequiredArgsConstructor
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/flights")
 public class FlightController {
+    private static final String VIEW_SUMMARY = "summary";
+    private static final String VIEW_FULL = "full";
+
     private final FlightService flightService;
     private final FlightFactory flightFactory;
-    private final FlightRepository flightRepository;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new flight.
@@ -49,44 +67,110 @@ public class FlightController {
                 flightRequest.getScheduledArrival()
         );
 
-        // check if a flight exists
-        Optional<Flight> existingFlight = flightRepository.findByFlightNumber(flight.getFlightNumber());
-        if(existingFlight.isPresent()){
-            throw new RuntimeException("Flight Already exists");
-        }
-
-        Flight savedFlight = flightRepository.save(flight);
+        Flight savedFlight = flightService.createFlight(flight);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedFlight);
 
     }
 
     /**
      * Retrieves all flights.
+     * Answers 304 Not Modified when the client's ETag or Last-Modified still matches the list.
+     * The result is loaded before the check, so a 304 saves writing the body, not the query.
      * 
      * @return ResponseEntity containing a list of all flights
      */
     @GetMapping
     public ResponseEntity<List<Flight>> getAllFlights(){
-        List<Flight> flights = flightRepository.findAll();
-        return ResponseEntity.ok(flights);
+        List<Flight> flights = flightService.findAllFlights();
+        return FlightETags.okFlights(flights).body(flights);
+    }
+
+    /**
+     * Streams all flights as newline-delimited JSON, one flight per line.
+     * Flights are written straight from a database cursor, so memory stays bounded
+     * regardless of the number of flights.
+     *
+     * @return ResponseEntity streaming the flights ordered by scheduled departure
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllFlights(){
+        StreamingResponseBody body = out -> {
+            try (Stream<Flight> flights = flightService.streamAllFlights();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // lines are ended explicitly, not prefixed with Jackson's default root separator (a space)
+                generator.setRootValueSeparator(null);
+                for (Flight flight : (Iterable<Flight>) flights::iterator) {
+                    objectMapper.writeValue(generator, flight);
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Retrieves one page of flights ordered by scheduled departure.
+     * Answers 304 Not Modified when the client's ETag or Last-Modified still matches the page.
+     * The result is loaded before the check, so a 304 saves writing the body, not the query.
+     * 
+     * @param cursor the nextCursor of the previous page, omitted for the first page
+     * @param size the maximum number of flights per page
+     * @return ResponseEntity containing the page and the cursor of the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<FlightPage> getFlightsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        FlightPage page = flightService.findFlightsPage(cursor, size);
+        return FlightETags.okFlights(page.getFlights()).body(page);
     }
 
     /**
      * Retrieves a specific flight by its flight number.
+     * If-None-Match and If-Modified-Since are checked against the flight's version lookup first,
+     * so an unchanged flight is answered with 304 Not Modified without loading its manifest.
+     * A 200 response carries the ETag and Last-Modified of the flight it returns, which may be
+     * newer than the one checked.
      * 
      * @param flightNumber the unique flight number
-     * @return ResponseEntity containing the flight if found, or 404 if not found
+     * @param request the request, for its conditional headers
+     * @param response the response, for the validators of the returned flight
+     * @return ResponseEntity containing the flight if found, 304 if unchanged, or 404 if not found
      */
     @GetMapping("/{flightNumber}")
-    public ResponseEntity<Flight> getFlightByNumber(@PathVariable String flightNumber){
+    public ResponseEntity<Flight> getFlightByNumber(@PathVariable String flightNumber, WebRequest request,
+                                                    HttpServletResponse response){
+        Flight current = flightService.getFlightValidators(flightNumber);
+        // sets ETag and Last-Modified on the response either way
+        if (request.checkNotModified(FlightETags.of(current), FlightETags.lastModified(current))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         Flight flight = flightService.getFlightWithPassengers(flightNumber);
         if(flight != null){
+            // a write between the two reads changes the body; replace the validators set above
+            response.setHeader(HttpHeaders.ETAG, FlightETags.of(flight));
+            if (flight.getLastModifiedAt() != null) {
+                response.setDateHeader(HttpHeaders.LAST_MODIFIED, FlightETags.lastModified(flight));
+            }
             return ResponseEntity.ok(flight);
         }else{
             return ResponseEntity.notFound().build();
         }
     }
 
+    /**
+     * Retrieves the free and occupied seats of a flight per seat class, without the passenger manifest.
+     * 
+     * @param flightNumber the unique flight number
+     * @return ResponseEntity containing the seat map
+     */
+    @GetMapping("/{flightNumber}/seatmap")
+    public ResponseEntity<SeatMap> getSeatMap(@PathVariable String flightNumber){
+        return ResponseEntity.ok(flightService.getSeatMap(flightNumber));
+    }
+
     /**
      * Adds a passenger to a specific flight.
      * 
@@ -99,18 +183,31 @@ public class FlightController {
             @PathVariable String flightNumber,
             @Valid @RequestBody PassengerRequest passengerRequest
             ){
-        SeatAssignment seatAssignment = new SeatAssignment(passengerRequest.getSeatNumber(), passengerRequest.getSeatClass());
-        Passenger passenger = Passenger.builder()
-                .name(passengerRequest.getName())
-                .seatAssignment(seatAssignment)
-                .build();
-
-        flightService.addPassengerToFlight(flightNumber, passenger);
+        flightService.addPassengerToFlight(flightNumber, toPassenger(passengerRequest));
 
         return ResponseEntity.ok("Passenger added successfully");
 
     }
 
+    /**
+     * Adds a group of passengers to a specific flight in one request.
+     * 
+     * @param flightNumber the flight number to add the passengers to
+     * @param batchRequest the passengers including their seat assignments
+     * @return ResponseEntity containing one booking result per passenger, in request order
+     */
+    @PostMapping("/{flightNumber}/passengers/batch")
+    public ResponseEntity<List<PassengerBookingResult>> addPassengersToFlight(
+            @PathVariable String flightNumber,
+            @Valid @RequestBody BatchPassengerRequest batchRequest
+    ){
+        List<Passenger> passengers = batchRequest.getPassengers().stream()
+                .map(this::toPassenger)
+                .toList();
+
+        return ResponseEntity.ok(flightService.addPassengersToFlight(flightNumber, passengers));
+    }
+
     /**
      * Removes a passenger from a specific flight.
      * 
@@ -133,32 +230,80 @@ public class FlightController {
 
     /**
      * Retrieves flights for a specific route.
+     * Returns passenger-free summaries unless the full view is requested.
+     * Answers 304 Not Modified when the client's ETag or Last-Modified still matches the result.
+     * The result is loaded before the check, so a 304 saves writing the body, not the query.
      * 
      * @param origin the departure location
      * @param destination the arrival location
+     * @param view "summary" (default) for schedule fields and counts, or "full" for complete flights
      * @return ResponseEntity containing a list of flights matching the route
      */
     @GetMapping("/route")
-    public ResponseEntity<List<Flight>> getFlightsByRoute(
-            @RequestParam String origin, @RequestParam String destination
+    public ResponseEntity<List<?>> getFlightsByRoute(
+            @RequestParam String origin, @RequestParam String destination,
+            @RequestParam(defaultValue = VIEW_SUMMARY) String view
     ) {
-        List<Flight> flights = flightService.findFlightsByRoute(origin, destination);
-        return ResponseEntity.ok(flights);
+        if (isFullView(view)) {
+            List<Flight> flights = flightService.findFlightsByRoute(origin, destination);
+            return FlightETags.okFlights(flights).body(flights);
+        }
+        List<FlightSummary> summaries = flightService.findFlightSummariesByRoute(origin, destination);
+        return FlightETags.okSummaries(summaries).body(summaries);
     }
 
     /**
      * Retrieves flights within a specific departure time range.
+     * Returns passenger-free summaries unless the full view is requested.
+     * Answers 304 Not Modified when the client's ETag or Last-Modified still matches the result.
+     * The result is loaded before the check, so a 304 saves writing the body, not the query.
      * 
      * @param start the start of the time range (inclusive)
      * @param end the end of the time range (inclusive)
+     * @param view "summary" (default) for schedule fields and counts, or "full" for complete flights
      * @return ResponseEntity containing a list of flights departing within the specified range
      */
     @GetMapping("/departures")
-    public ResponseEntity<List<Flight>> getFlightsByDepartureRange(
-            @RequestParam LocalDateTime start, @RequestParam LocalDateTime end
+    public ResponseEntity<List<?>> getFlightsByDepartureRange(
+            @RequestParam LocalDateTime start, @RequestParam LocalDateTime end,
+            @RequestParam(defaultValue = VIEW_SUMMARY) String view
+    ) {
+        if (isFullView(view)) {
+            List<Flight> flights = flightService.findFlightsByDepartureRange(start, end);
+            return FlightETags.okFlights(flights).body(flights);
+        }
+        List<FlightSummary> summaries = flightService.findFlightSummariesByDepartureRange(start, end);
+        return FlightETags.okSummaries(summaries).body(summaries);
+    }
+
+    /**
+     * Retrieves connections between two airports, including multi-leg itineraries.
+     * 
+     * @param origin the departure airport
+     * @param destination the final arrival airport
+     * @param departAfter the earliest departure of the first flight, defaults to now
+     * @param departBefore the latest departure of the first flight, defaults to 24 hours after departAfter
+     * @param minLayoverMinutes the minimum layover between two flights
+     * @param maxLayoverMinutes the maximum layover between two flights
+     * @param maxLegs the maximum number of flights per connection
+     * @param limit the maximum number of itineraries to return
+     * @return ResponseEntity containing the itineraries ordered by arrival time
+     */
+    @GetMapping("/connections")
+    public ResponseEntity<List<Itinerary>> getConnections(
+            @RequestParam String origin, @RequestParam String destination,
+            @RequestParam(required = false) LocalDateTime departAfter,
+            @RequestParam(required = false) LocalDateTime departBefore,
+            @RequestParam(defaultValue = "45") long minLayoverMinutes,
+            @RequestParam(defaultValue = "360") long maxLayoverMinutes,
+            @RequestParam(defaultValue = "3") int maxLegs,
+            @RequestParam(defaultValue = "20") int limit
     ) {
-        List<Flight> flights = flightService.findFlightsByDepartureRange(start, end);
-        return ResponseEntity.ok(flights);
+        LocalDateTime windowStart = departAfter != null ? departAfter : LocalDateTime.now();
+        LocalDateTime windowEnd = departBefore != null ? departBefore : windowStart.plusHours(24);
+        List<Itinerary> itineraries = flightService.findConnections(origin, destination, windowStart, windowEnd,
+                Duration.ofMinutes(minLayoverMinutes), Duration.ofMinutes(maxLayoverMinutes), maxLegs, limit);
+        return ResponseEntity.ok(itineraries);
     }
 
     /**
@@ -169,12 +314,29 @@ public class FlightController {
      */
     @DeleteMapping("/{flightNumber}")
     public ResponseEntity<String> deleteFlight(@PathVariable String flightNumber) {
-        if (flightService.flightExists(flightNumber)) {
-            var id = flightRepository.deleteFlightByFlightNumber(flightNumber);
+        if (flightService.deleteFlight(flightNumber)) {
             return ResponseEntity.ok("Flight deleted successfully");
         } else {
             return ResponseEntity.notFound().build();
         }
     }
 
+    private Passenger toPassenger(PassengerRequest passengerRequest) {
+        SeatAssignment seatAssignment = SeatAssignment.of(passengerRequest.getSeatNumber(), passengerRequest.getSeatClass());
+        return Passenger.builder()
+                .name(passengerRequest.getName())
+                .seatAssignment(seatAssignment)
+                .build();
+    }
+
+    private static boolean isFullView(String view) {
+        if (VIEW_FULL.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unknown view: " + view + " (expected summary or full)");
+    }
+
 }
@@ -0,0 +1,97 @@
+package com.example.airpot.controller;
+
+import com.example.airpot.domain.AuditClock;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.dto.FlightSummary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Strong ETags and Last-Modified values of flight responses, for conditional GETs.
+ * <p>
+ * A flight's ETag is derived from its version and {@code lastModifiedAt}, which every write
+ * sets; pending outbox events are not part of the JSON. A list's ETag is its max {@code lastModifiedAt} and size, plus a
+ * digest of the same fields of every element, so removing, replacing or reordering elements
+ * changes it too. Last-Modified is the (max) {@code lastModifiedAt}, converted to an instant in
+ * the zone of {@link AuditClock}, in which it was written.
+ * <p>
+ * List responses built by {@link #okFlights} and {@link #okSummaries} are answered with 304 by
+ * Spring MVC without writing the body when a validator matches. Their validators are computed
+ * from the loaded result, so the query still runs in full; a 304 saves serializing and sending
+ * the list, not reading it.
+ *
+ */
+final class FlightETags {
+
+    private FlightETags() {
+    }
+
+    /**
+     * @param flight the flight, or the validators of {@code FlightService#getFlightValidators}
+     * @return the strong ETag of the flight's JSON
+     */
+    static String of(Flight flight) {
+        return "\"" + flight.getVersion() + "-" + lastModified(flight.getLastModifiedAt()) + "\"";
+    }
+
+    /**
+     * @return the lastModifiedAt of the flight in epoch milliseconds, or -1 if it has none
+     */
+    static long lastModified(Flight flight) {
+        return lastModified(flight.getLastModifiedAt());
+    }
+
+    /**
+     * @param flight the flight
+     * @return a 200 response builder carrying the validators of the flight
+     */
+    static ResponseEntity.BodyBuilder ok(Flight flight) {
+        return withLastModified(ResponseEntity.ok().eTag(of(flight)), flight.getLastModifiedAt());
+    }
+
+    /**
+     * @param flights the flights of the response body
+     * @return a 200 response builder carrying the validators of the list
+     */
+    static ResponseEntity.BodyBuilder okFlights(Collection<Flight> flights) {
+        return ok(flights, Flight::getLastModifiedAt, flight -> flight.getId() + ":" + flight.getVersion()
+                + ":" + flight.getLastModifiedAt());
+    }
+
+    /**
+     * @param summaries the summaries of the response body
+     * @return a 200 response builder carrying the validators of the list
+     */
+    static ResponseEntity.BodyBuilder okSummaries(Collection<FlightSummary> summaries) {
+        // summaries from the departure board change counts in memory, so all fields count
+        return ok(summaries, FlightSummary::getLastModifiedAt, FlightSummary::toString);
+    }
+
+    private static <T> ResponseEntity.BodyBuilder ok(Collection<T> items, Function<T, LocalDateTime> lastModifiedAt,
+                                                     Function<T, String> validator) {
+        LocalDateTime max = items.stream()
+                .map(lastModifiedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        StringBuilder validators = new StringBuilder();
+        items.forEach(item -> validators.append(validator.apply(item)).append('\n'));
+        String digest = DigestUtils.md5DigestAsHex(validators.toString().getBytes(StandardCharsets.UTF_8));
+        return withLastModified(ResponseEntity.ok()
+                .eTag("\"" + lastModified(max) + "-" + items.size() + "-" + digest + "\""), max);
+    }
+
+    private static ResponseEntity.BodyBuilder withLastModified(ResponseEntity.BodyBuilder builder, LocalDateTime lastModifiedAt) {
+        return lastModifiedAt == null ? builder : builder.lastModified(lastModified(lastModifiedAt));
+    }
+
+    private static long lastModified(LocalDateTime lastModifiedAt) {
+        return lastModifiedAt == null ? -1 : AuditClock.toInstant(lastModifiedAt).toEpochMilli();
+    }
+}
@@ -7,13 +7,17 @@ import lombok.NoArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
@@ -56,9 +60,24 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex){
-        log.error("Validation error: {}", ex.getMessage());
+        return validationError(ex.getMessage(), ex.getBindingResult().getFieldErrors());
+    }
+
+    /**
+     * Handles validation errors from request body validation on the reactive stack.
+     *
+     * @param ex the WebExchangeBindException containing validation errors
+     * @return ResponseEntity with validation error details and BAD_REQUEST status
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException ex){
+        return validationError(ex.getMessage(), ex.getFieldErrors());
+    }
+
+    private ResponseEntity<ErrorResponse> validationError(String message, List<FieldError> fieldErrors){
+        log.error("Validation error: {}", message);
         Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getFieldErrors().forEach(error -> {
+        fieldErrors.forEach(error -> {
             errors.put(error.getField(), error.getDefaultMessage());
         });
         ErrorResponse errorResponse = ErrorResponse.builder()
@@ -71,8 +90,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * Handles concurrent modifications that could not be resolved by retrying.
+     *
+     * @param ex the OptimisticLockingFailureException that was thrown
+     * @return ResponseEntity with error details and CONFLICT status
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex){
+        log.error("Concurrent modification: {}", ex.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .error("Concurrent Modification")
+                .message("The flight was modified concurrently, please retry")
+                .timestamp(LocalDateTime.now())
+                .build();
 
-
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
 
     /**
      * Handles all other unhandled exceptions as a fallback.
@@ -0,0 +1,41 @@
+package com.example.airpot.controller;
+
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domainservice.PassengerSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for passenger lookups across flights.
+ *
+ */
+@RequiredArgsConstructor
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/passengers")
+public class PassengerController {
+
+    private final PassengerSearchService passengerSearchService;
+
+    /**
+     * Searches passengers by the beginning of their name, ignoring case and accents.
+     *
+     * @param name the name prefix
+     * @param limit the maximum number of passengers to return
+     * @return ResponseEntity containing the matching passengers ordered by name
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<Passenger>> searchPassengers(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(passengerSearchService.searchByName(name, limit));
+    }
+}
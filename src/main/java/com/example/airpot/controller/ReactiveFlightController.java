@@ -0,0 +1,214 @@
+package com.example.airpot.controller;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.domainservice.ReactiveFlightService;
+import com.example.airpot.dto.FlightRequest;
+import com.example.airpot.dto.Itinerary;
+import com.example.airpot.dto.PassengerRequest;
+import com.example.airpot.factory.FlightFactory;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * WebFlux counterpart of {@link FlightController}, active with the "reactive" profile.
+ * Serves the same paths and payloads on a non-blocking stack; collection endpoints return
+ * a {@link Flux} that is written as it is read from MongoDB, as a JSON array or, with
+ * {@code Accept: application/x-ndjson}, one flight per line with backpressure.
+ * Paging, batch booking and seat maps are only served by the servlet stack.
+ *
+ */
+@RequiredArgsConstructor
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/flights")
+public class ReactiveFlightController {
+    private static final String VIEW_SUMMARY = "summary";
+    private static final String VIEW_FULL = "full";
+
+    private final ReactiveFlightService flightService;
+    private final FlightFactory flightFactory;
+
+    /**
+     * Creates a new flight.
+     *
+     * @param flightRequest the flight details to create
+     * @return the created flight with HTTP 201 status
+     */
+    @PostMapping
+    public Mono<ResponseEntity<Flight>> createFlight(@Valid @RequestBody FlightRequest flightRequest) {
+        Flight flight = flightFactory.createFlight(
+                flightRequest.getFlightNumber(),
+                flightRequest.getOrigin(),
+                flightRequest.getDestination(),
+                flightRequest.getScheduledDeparture(),
+                flightRequest.getScheduledArrival()
+        );
+
+        return flightService.createFlight(flight)
+                .map(saved -> ResponseEntity.status(HttpStatus.CREATED).body(saved));
+    }
+
+    /**
+     * Streams all flights ordered by scheduled departure.
+     *
+     * @return the flights, as a JSON array or newline-delimited JSON
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Flight> getAllFlights() {
+        return flightService.findAllFlights();
+    }
+
+    /**
+     * Retrieves a specific flight by its flight number.
+     * The response carries the flight's ETag and Last-Modified, and WebFlux answers a matching
+     * conditional request with 304 Not Modified without encoding the flight.
+     *
+     * @param flightNumber the unique flight number
+     * @return the flight
+     */
+    @GetMapping("/{flightNumber}")
+    public Mono<ResponseEntity<Flight>> getFlightByNumber(@PathVariable String flightNumber) {
+        return flightService.getFlightWithPassengers(flightNumber)
+                .map(flight -> FlightETags.ok(flight).body(flight));
+    }
+
+    /**
+     * Adds a passenger to a specific flight.
+     *
+     * @param flightNumber the flight number to add the passenger to
+     * @param passengerRequest the passenger details including seat assignment
+     * @return success message
+     */
+    @PostMapping("/{flightNumber}/passengers")
+    public Mono<ResponseEntity<String>> addPassengerToFlight(
+            @PathVariable String flightNumber,
+            @Valid @RequestBody PassengerRequest passengerRequest
+    ) {
+        return flightService.addPassengerToFlight(flightNumber, toPassenger(passengerRequest))
+                .thenReturn(ResponseEntity.ok("Passenger added successfully"));
+    }
+
+    /**
+     * Removes a passenger from a specific flight.
+     *
+     * @param flightNumber the flight number to remove the passenger from
+     * @param passengerId the unique identifier of the passenger to remove
+     * @return success message or 404 if passenger not found
+     */
+    @DeleteMapping("/{flightNumber}/passengers/{passengerId}")
+    public Mono<ResponseEntity<String>> removePassengerFromFlight(
+            @PathVariable String flightNumber,
+            @PathVariable String passengerId
+    ) {
+        return flightService.removePassengerFromFlight(flightNumber, passengerId)
+                .map(removed -> removed
+                        ? ResponseEntity.ok("Passenger removed successfully")
+                        : ResponseEntity.notFound().<String>build());
+    }
+
+    /**
+     * Streams flights for a specific route.
+     * Emits passenger-free summaries unless the full view is requested.
+     *
+     * @param origin the departure location
+     * @param destination the arrival location
+     * @param view "summary" (default) for schedule fields and counts, or "full" for complete flights
+     * @return the flights matching the route, ordered by departure
+     */
+    @GetMapping(value = "/route", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<?> getFlightsByRoute(
+            @RequestParam String origin, @RequestParam String destination,
+            @RequestParam(defaultValue = VIEW_SUMMARY) String view
+    ) {
+        if (isFullView(view)) {
+            return flightService.findFlightsByRoute(origin, destination);
+        }
+        return flightService.findFlightSummariesByRoute(origin, destination);
+    }
+
+    /**
+     * Streams flights within a specific departure time range.
+     * Emits passenger-free summaries unless the full view is requested.
+     *
+     * @param start the start of the time range (inclusive)
+     * @param end the end of the time range (inclusive)
+     * @param view "summary" (default) for schedule fields and counts, or "full" for complete flights
+     * @return the flights departing within the range, ordered by departure
+     */
+    @GetMapping(value = "/departures", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<?> getFlightsByDepartureRange(
+            @RequestParam LocalDateTime start, @RequestParam LocalDateTime end,
+            @RequestParam(defaultValue = VIEW_SUMMARY) String view
+    ) {
+        if (isFullView(view)) {
+            return flightService.findFlightsByDepartureRange(start, end);
+        }
+        return flightService.findFlightSummariesByDepartureRange(start, end);
+    }
+
+    /**
+     * Retrieves connections between two airports, including multi-leg itineraries.
+     * Parameters and defaults are those of {@link FlightController#getConnections}.
+     *
+     * @return the itineraries ordered by arrival time
+     */
+    @GetMapping(value = "/connections", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Itinerary> getConnections(
+            @RequestParam String origin, @RequestParam String destination,
+            @RequestParam(required = false) LocalDateTime departAfter,
+            @RequestParam(required = false) LocalDateTime departBefore,
+            @RequestParam(defaultValue = "45") long minLayoverMinutes,
+            @RequestParam(defaultValue = "360") long maxLayoverMinutes,
+            @RequestParam(defaultValue = "3") int maxLegs,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        LocalDateTime windowStart = departAfter != null ? departAfter : LocalDateTime.now();
+        LocalDateTime windowEnd = departBefore != null ? departBefore : windowStart.plusHours(24);
+        return flightService.findConnections(origin, destination, windowStart, windowEnd,
+                Duration.ofMinutes(minLayoverMinutes), Duration.ofMinutes(maxLayoverMinutes), maxLegs, limit);
+    }
+
+    /**
+     * Deletes a flight by its flight number.
+     *
+     * @param flightNumber the unique flight number to delete
+     * @return success message or 404 if flight not found
+     */
+    @DeleteMapping("/{flightNumber}")
+    public Mono<ResponseEntity<String>> deleteFlight(@PathVariable String flightNumber) {
+        return flightService.deleteFlight(flightNumber)
+                .map(deleted -> deleted
+                        ? ResponseEntity.ok("Flight deleted successfully")
+                        : ResponseEntity.notFound().<String>build());
+    }
+
+    private Passenger toPassenger(PassengerRequest passengerRequest) {
+        SeatAssignment seatAssignment = SeatAssignment.of(passengerRequest.getSeatNumber(), passengerRequest.getSeatClass());
+        return Passenger.builder()
+                .name(passengerRequest.getName())
+                .seatAssignment(seatAssignment)
+                .build();
+    }
+
+    private static boolean isFullView(String view) {
+        if (VIEW_FULL.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unknown view: " + view + " (expected summary or full)");
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.airpot.controller;
+
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.domain.SeatHold;
+import com.example.airpot.domainservice.SeatHoldService;
+import com.example.airpot.dto.PassengerRequest;
+import com.example.airpot.dto.SeatHoldRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for seat holds taken during checkout.
+ *
+ */
+@RequiredArgsConstructor
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/flights/{flightNumber}/holds")
+public class SeatHoldController {
+
+    private final SeatHoldService seatHoldService;
+
+    /**
+     * Holds a seat until the booking is confirmed or the hold expires.
+     *
+     * @param flightNumber the flight number
+     * @param holdRequest the seat to hold
+     * @return ResponseEntity containing the hold with HTTP 201 status
+     */
+    @PostMapping
+    public ResponseEntity<SeatHold> holdSeat(
+            @PathVariable String flightNumber,
+            @Valid @RequestBody SeatHoldRequest holdRequest
+    ) {
+        SeatHold hold = seatHoldService.holdSeat(flightNumber, holdRequest.getSeatNumber());
+        return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+    }
+
+    /**
+     * Books the held seat for a passenger.
+     *
+     * @param flightNumber the flight number
+     * @param holdId the hold to confirm
+     * @param passengerRequest the passenger details, with the held seat
+     * @return ResponseEntity with success message
+     */
+    @PostMapping("/{holdId}/confirm")
+    public ResponseEntity<String> confirmHold(
+            @PathVariable String flightNumber,
+            @PathVariable String holdId,
+            @Valid @RequestBody PassengerRequest passengerRequest
+    ) {
+        Passenger passenger = Passenger.builder()
+                .name(passengerRequest.getName())
+                .seatAssignment(SeatAssignment.of(passengerRequest.getSeatNumber(), passengerRequest.getSeatClass()))
+                .build();
+        seatHoldService.confirm(flightNumber, holdId, passenger);
+        return ResponseEntity.ok("Passenger added successfully");
+    }
+
+    /**
+     * Releases a hold.
+     *
+     * @param flightNumber the flight number
+     * @param holdId the hold to release
+     * @return ResponseEntity with success message or 404 if the hold does not exist
+     */
+    @DeleteMapping("/{holdId}")
+    public ResponseEntity<String> releaseHold(
+            @PathVariable String flightNumber,
+            @PathVariable String holdId
+    ) {
+        if (seatHoldService.release(flightNumber, holdId)) {
+            return ResponseEntity.ok("Hold released successfully");
+        }
+        return ResponseEntity.notFound().build();
+    }
+}
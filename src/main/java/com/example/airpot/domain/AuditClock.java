@@ -0,0 +1,38 @@
+package com.example.airpot.domain;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * The clock of the {@code createdAt} and {@code lastModifiedAt} timestamps: Mongo auditing, the
+ * conditional updates that set {@code lastModifiedAt} and the conversions of those timestamps to
+ * instants all use its zone. The zone is the JVM's default zone, in which Spring Data also stores
+ * {@link LocalDateTime} values, so the stored dates are the actual instants of the changes.
+ *
+ */
+public final class AuditClock {
+
+    /**
+     * The zone the audit timestamps are written in.
+     */
+    public static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private AuditClock() {
+    }
+
+    /**
+     * @return the current audit timestamp
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now(ZONE);
+    }
+
+    /**
+     * @param timestamp an audit timestamp
+     * @return the instant of the timestamp
+     */
+    public static Instant toInstant(LocalDateTime timestamp) {
+        return timestamp.atZone(ZONE).toInstant();
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.airpot.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
@@ -9,21 +12,29 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.domain.AfterDomainEventPublication;
-import org.springframework.data.domain.DomainEvents;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Domain entity representing a flight in the airport system.
  * Contains flight details, passenger information, and business logic for passenger management.
- * Implements domain events for integration with other bounded contexts.
+ * Records domain events for integration with other bounded contexts in its own document,
+ * so they are stored atomically with the change that raised them.
+ * <p>
+ * Indexes follow the query shapes of {@code FlightRepository}: route searches filter on
+ * origin and destination and sort by departure, departure-range searches and keyset
+ * pagination use (scheduledDeparture, _id), and the flight number is a unique business key.
  *
  */
 @Getter
@@ -32,8 +43,16 @@ import java.util.Objects;
 @AllArgsConstructor
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-@ToString(exclude = {"events", "passengers"})
+@ToString(exclude = {"events", "passengers", "seatOccupancy", "seatHolds"})
 @Document(collection = "flights")
+@JsonPropertyOrder({"id", "flightNumber", "origin", "destination", "scheduledDeparture", "scheduledArrival",
+        "passengers", "events"})
+@CompoundIndexes({
+        @CompoundIndex(name = "route_departure_idx", def = "{'origin': 1, 'destination': 1, 'scheduledDeparture': 1}"),
+        @CompoundIndex(name = "departure_id_idx", def = "{'scheduledDeparture': 1, '_id': 1}"),
+        @CompoundIndex(name = "pending_events_idx", def = "{'events._id': 1}",
+                partialFilter = "{'events._id': {$exists: true}}")
+})
 public class Flight {
 
     /**
@@ -48,7 +67,7 @@ public class Flight {
     @NotBlank(message = "Flight number is required")
     @Size(min = 2, max = 10, message = "Flight number must be between 2 and 10 characters")
     @EqualsAndHashCode.Include
-    @Indexed
+    @Indexed(unique = true)
     private String flightNumber;
 
     /**
@@ -56,7 +75,6 @@ public class Flight {
      */
     @NotBlank(message = "Origin is required")
     @Size(min = 3, max = 50, message = "Origin must be between 3 and 50 characters")
-    @Indexed
     private String origin;
 
     /**
@@ -72,7 +90,6 @@ public class Flight {
      */
     @NotNull(message = "Scheduled departure is required")
     @Future(message = "Scheduled departure must be in the future")
-    @Indexed
     private LocalDateTime scheduledDeparture;
 
     /**
@@ -90,11 +107,40 @@ public class Flight {
     private List<Passenger> passengers = new ArrayList<>();
 
     /**
-     * Domain events for this flight entity.
+     * Seat occupancy derived from {@link #passengers}.
+     * Not persisted; rebuilt lazily on first use after the flight is loaded or its passengers are replaced.
+     */
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private SeatOccupancy seatOccupancy;
+
+    /**
+     * Seats currently held by checkouts that have not been confirmed yet.
+     * Persisted with the flight, so the conditional updates that book a seat can check them;
+     * expired entries no longer block their seat. Not part of the API.
+     */
+    @JsonIgnore
+    @Builder.Default
+    private List<HeldSeat> seatHolds = new ArrayList<>();
+
+    /**
+     * Domain events of this flight that have not been delivered by the outbox relay yet.
+     * Persisted with the flight; the relay removes them once every subscriber has them.
+     * Not part of the API, see {@link #getPublishedEvents()}.
      */
+    @JsonIgnore
     @Builder.Default
-    private final List<Object> events = new ArrayList<>();
+    private final List<FlightEvent> events = new ArrayList<>();
     
+    /**
+     * Optimistic locking version, incremented on every write of the aggregate.
+     * A save based on a stale copy fails instead of silently overwriting newer changes.
+     */
+    @Version
+    private Long version;
+
     /**
      * Timestamp when the flight was created.
      */
@@ -108,43 +154,81 @@ public class Flight {
     private LocalDateTime lastModifiedAt;
 
     /**
-     * Returns the domain events for this flight.
-     * 
-     * @return collection of domain events
+     * Records a domain event, to be stored with the next save of this flight.
+     *
+     * @param event the event
      */
-    @DomainEvents
-    Collection<Object> domainEvents() {
-        return events;
+    public void registerEvent(FlightEvent event) {
+        events.add(Objects.requireNonNull(event, "Event cannot be null"));
     }
 
     /**
-     * Clears domain events after they have been published.
+     * Replaces the passengers of this flight and invalidates the seat occupancy index.
+     *
+     * @param passengers the new passenger list
      */
-    @AfterDomainEventPublication
-    void clearDomainEvents() {
-        events.clear();
+    public void setPassengers(List<Passenger> passengers) {
+        this.passengers = passengers;
+        this.seatOccupancy = null;
     }
 
     /**
      * Adds a passenger to this flight.
-     * Validates that the seat is not already taken if a seat assignment is provided.
+     * Validates that the seat is neither taken nor on hold if a seat assignment is provided.
      * 
      * @param passenger the passenger to add
-     * @throws IllegalArgumentException if the seat is already assigned
+     * @throws IllegalArgumentException if the seat is already assigned, on hold, or the seat number is malformed
      * @throws IllegalArgumentException if passenger is null
      */
     public void addPassenger(Passenger passenger) {
         Objects.requireNonNull(passenger, "Passenger cannot be null");
         
         if (passenger.getSeatAssignment() != null) {
-            boolean isSeatTaken = passengers.stream()
-                    .anyMatch(p -> p.getSeatAssignment() != null && 
-                             p.getSeatAssignment().equals(passenger.getSeatAssignment()));
-            if (isSeatTaken) {
-                throw new IllegalArgumentException("Seat " + passenger.getSeatAssignment().getSeatNumber() + " is already assigned");
+            String seatNumber = passenger.getSeatAssignment().getSeatNumber();
+            int seat = passenger.getSeatAssignment().getSeat();
+            if (seat < 0) {
+                throw new IllegalArgumentException("Invalid seat number: " + seatNumber);
+            }
+            if (isSeatHeld(seatNumber, null, Instant.now())) {
+                throw new IllegalArgumentException("Seat " + seatNumber + " is on hold");
+            }
+            if (!seatOccupancy().occupy(seat)) {
+                throw new IllegalArgumentException("Seat " + seatNumber + " is already assigned");
             }
         }
         this.passengers.add(passenger);
+        registerEvent(FlightEvent.passengerAdded(flightNumber, passenger));
+    }
+
+    /**
+     * Checks whether a seat is held by a checkout other than the given one.
+     *
+     * @param seatNumber the seat number (e.g., "12A")
+     * @param holdId the hold of the caller, or null
+     * @param now the current time
+     * @return true if another unexpired hold exists for the seat
+     */
+    public boolean isSeatHeld(String seatNumber, String holdId, Instant now) {
+        if (seatHolds == null) {
+            return false;
+        }
+        for (HeldSeat heldSeat : seatHolds) {
+            if (heldSeat.blocks(seatNumber, holdId, now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a seat is already assigned to a passenger on this flight.
+     *
+     * @param seatNumber the seat number (e.g., "12A")
+     * @return true if the seat is taken, false if it is free or the seat number is malformed
+     */
+    public boolean isSeatTaken(String seatNumber) {
+        int seat = SeatOccupancy.indexOf(seatNumber);
+        return seat >= 0 && seatOccupancy().isOccupied(seat);
     }
 
     /**
@@ -158,7 +242,39 @@ public class Flight {
         if (passengerId == null || passengerId.trim().isEmpty()) {
             throw new IllegalArgumentException("Passenger ID cannot be null or empty");
         }
-        return passengers.removeIf(p -> Objects.equals(p.getId(), passengerId));
+        SeatOccupancy occupancy = seatOccupancy();
+        boolean removed = false;
+        for (Iterator<Passenger> it = passengers.iterator(); it.hasNext(); ) {
+            Passenger p = it.next();
+            if (Objects.equals(p.getId(), passengerId)) {
+                it.remove();
+                int seat = SeatOccupancy.seatOf(p);
+                if (seat >= 0) {
+                    occupancy.release(seat);
+                }
+                registerEvent(FlightEvent.passengerRemoved(flightNumber, p));
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    private SeatOccupancy seatOccupancy() {
+        if (seatOccupancy == null) {
+            seatOccupancy = SeatOccupancy.of(passengers);
+        }
+        return seatOccupancy;
+    }
+
+    /**
+     * The {@code events} of the API, which are always empty: pending events carry passenger
+     * details and stay in the outbox, but clients of the original API expect the field.
+     *
+     * @return an empty list
+     */
+    @JsonProperty("events")
+    public List<FlightEvent> getPublishedEvents() {
+        return List.of();
     }
 
     /**
@@ -0,0 +1,84 @@
+package com.example.airpot.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Domain event of a {@link Flight}, published to subscribers by the outbox relay.
+ * <p>
+ * Events are stored in the {@code events} array of the flight document by the same write
+ * that changes the flight, and removed once delivered. Events of deleted flights, which
+ * have no document left, are kept in the {@code flight_outbox} collection instead.
+ * Delivery is at-least-once; the id, which increases with time, identifies duplicates.
+ *
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Document(collection = "flight_outbox")
+public class FlightEvent {
+
+    public enum Type {
+        FLIGHT_CREATED,
+        FLIGHT_DELETED,
+        PASSENGER_ADDED,
+        PASSENGER_REMOVED
+    }
+
+    @Id
+    private String id;
+
+    private Type type;
+
+    private String flightNumber;
+
+    /**
+     * Technical id of the deleted flight document; only set on {@link Type#FLIGHT_DELETED}.
+     */
+    private String flightId;
+
+    private String passengerId;
+
+    private String passengerName;
+
+    private String seatNumber;
+
+    private Instant occurredAt;
+
+    public static FlightEvent flightCreated(Flight flight) {
+        return of(Type.FLIGHT_CREATED, flight.getFlightNumber(), null, null);
+    }
+
+    public static FlightEvent flightDeleted(Flight flight) {
+        return of(Type.FLIGHT_DELETED, flight.getFlightNumber(), flight.getId(), null);
+    }
+
+    public static FlightEvent passengerAdded(String flightNumber, Passenger passenger) {
+        return of(Type.PASSENGER_ADDED, flightNumber, null, passenger);
+    }
+
+    public static FlightEvent passengerRemoved(String flightNumber, Passenger passenger) {
+        return of(Type.PASSENGER_REMOVED, flightNumber, null, passenger);
+    }
+
+    private static FlightEvent of(Type type, String flightNumber, String flightId, Passenger passenger) {
+        SeatAssignment seatAssignment = passenger == null ? null : passenger.getSeatAssignment();
+        return new FlightEvent(
+                new ObjectId().toHexString(),
+                type,
+                flightNumber,
+                flightId,
+                passenger == null ? null : passenger.getId(),
+                passenger == null ? null : passenger.getName(),
+                seatAssignment == null ? null : seatAssignment.getSeatNumber(),
+                Instant.now());
+    }
+}
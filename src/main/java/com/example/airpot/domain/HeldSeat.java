@@ -0,0 +1,49 @@
+package com.example.airpot.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * A seat hold as recorded in the flight document it holds a seat of.
+ * Bookings and new holds check these entries in the same conditional update that claims the
+ * seat, so a hold taken through any instance is respected. An entry that has expired no longer
+ * blocks anything and is removed when convenient; the {@link SeatHold} with the same id is the
+ * durable record of the hold.
+ *
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class HeldSeat {
+
+    private String holdId;
+
+    private String seatNumber;
+
+    private Instant expiresAt;
+
+    public static HeldSeat of(SeatHold hold) {
+        return new HeldSeat(hold.getId(), hold.getSeatNumber(), hold.getExpiresAt());
+    }
+
+    /**
+     * Checks whether this entry keeps a seat from anyone but the given hold.
+     *
+     * @param seatNumber the seat number
+     * @param holdId the hold of the caller, or null
+     * @param now the current time
+     * @return true if the entry is for the seat, unexpired and of another hold
+     */
+    public boolean blocks(String seatNumber, String holdId, Instant now) {
+        return this.seatNumber.equals(seatNumber) && !this.holdId.equals(holdId) && expiresAt.isAfter(now);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
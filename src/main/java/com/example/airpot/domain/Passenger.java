@@ -7,6 +7,7 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -25,6 +26,8 @@ import java.util.Objects;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString
 @Document(collection = "passengers")
+// nameKey is the normalized name written on save by PassengerNameIndex; backs prefix search
+@CompoundIndex(name = "name_key_idx", def = "{'nameKey': 1}")
 public class Passenger {
 
     /**
@@ -1,91 +1,204 @@
 package com.example.airpot.domain;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-import java.util.Objects;
+import org.springframework.data.annotation.Transient;
 
 /**
  * Value object representing a seat assignment on a flight.
- * Contains seat number and class information with validation.
- * Immutable value object following DDD principles.
+ * The seat is packed into a short holding its {@link SeatOccupancy} index, (row - 1) × 6 + letter,
+ * and the class is a {@link SeatClass}; the seat number is one of the shared renderings of the
+ * seat indexes, so an instance holds no strings of its own. {@link SeatAssignmentJson} keeps the
+ * JSON format, and the Mongo mapping stores the seat number and class label as before.
+ * <p>
+ * The seat number and class are validated as they were before the compact layout: an assignment
+ * without a seat number or class is rejected wherever a passenger is validated.
+ * Immutable value object following DDD principles; {@link #of(int, SeatClass)} returns shared instances.
  *
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-public class SeatAssignment {
-    
+@JsonSerialize(using = SeatAssignmentJson.Serializer.class)
+@JsonDeserialize(using = SeatAssignmentJson.Deserializer.class)
+public final class SeatAssignment {
+
+    /**
+     * Seat index of an assignment without a seat number.
+     */
+    public static final short NO_SEAT = -1;
+
+    private static final SeatClass[] SEAT_CLASSES = SeatClass.values();
+    // one shared instance per seat and class, plus one per seat without a class for seat references
+    private static final SeatAssignment[] SHARED = new SeatAssignment[SeatOccupancy.CAPACITY * (SEAT_CLASSES.length + 1)];
+
+    // rendered seat numbers, so writing a seat number to JSON or BSON does not allocate
+    private static final String[] SEAT_NUMBERS = new String[SeatOccupancy.CAPACITY];
+
+    static {
+        for (int seat = 0; seat < SeatOccupancy.CAPACITY; seat++) {
+            SEAT_NUMBERS[seat] = (seat / SeatOccupancy.SEATS_PER_ROW + 1)
+                    + String.valueOf((char) ('A' + seat % SeatOccupancy.SEATS_PER_ROW));
+            SHARED[sharedIndex(seat, null)] = new SeatAssignment((short) seat, null);
+            for (SeatClass seatClass : SEAT_CLASSES) {
+                SHARED[sharedIndex(seat, seatClass)] = new SeatAssignment((short) seat, seatClass);
+            }
+        }
+    }
+
     /**
-     * The seat number (e.g., "12A", "5B").
+     * The seat number (e.g., "12A", "5B"), shared by all assignments of the seat; null for {@link #NO_SEAT}.
      */
     @NotBlank(message = "Seat number is required")
     @Pattern(regexp = "^[1-9][0-9]?[A-F]$", message = "Seat number must be in format like '12A' or '5B'")
-    private String seatNumber;
-    
+    private final String seatNumber;
+
+    /**
+     * The seat index, or {@link #NO_SEAT}. Not stored; derived from the seat number.
+     */
+    @Transient
+    private final short seat;
+
+    /**
+     * The class of service for the seat; null for the seat references kept in flight documents.
+     */
+    @NotNull(message = "Seat class is required")
+    private final SeatClass seatClass;
+
+    private SeatAssignment(short seat, SeatClass seatClass) {
+        this.seatNumber = seat == NO_SEAT ? null : SEAT_NUMBERS[seat];
+        this.seat = seat;
+        this.seatClass = seatClass;
+    }
+
     /**
-     * The class of service for the seat.
-     * Valid values: Economy, Business, First Class
+     * Creates a seat assignment from its external form.
+     *
+     * @param seatNumber the seat number (e.g., "12A", "5B"), or null
+     * @param seatClass the seat class label (Economy, Business, First Class), or null
+     * @throws IllegalArgumentException if the seat number is malformed or the seat class unknown
      */
-    @NotBlank(message = "Seat class is required")
-    @Pattern(regexp = "^(Economy|Business|First Class)$", message = "Seat class must be Economy, Business, or First Class")
-    private String seatClass;
-    
+    public SeatAssignment(String seatNumber, String seatClass) {
+        this(parseSeat(seatNumber), seatClass == null ? null : SeatClass.fromLabel(seatClass));
+    }
+
+    /**
+     * Returns the shared seat assignment for the given external form.
+     *
+     * @param seatNumber the seat number (e.g., "12A", "5B"), or null, which validation rejects
+     * @param seatClass the seat class label (Economy, Business, First Class), or null, which validation rejects
+     * @return the seat assignment
+     * @throws IllegalArgumentException if the seat number is malformed or the seat class unknown
+     */
+    public static SeatAssignment of(String seatNumber, String seatClass) {
+        return of(parseSeat(seatNumber), seatClass == null ? null : SeatClass.fromLabel(seatClass));
+    }
+
+    /**
+     * Returns the shared seat assignment for the given seat index and class.
+     *
+     * @param seat the seat index, or {@link #NO_SEAT}
+     * @param seatClass the seat class, or null
+     * @return the seat assignment
+     */
+    public static SeatAssignment of(int seat, SeatClass seatClass) {
+        if (seat == NO_SEAT) {
+            return new SeatAssignment(NO_SEAT, seatClass);
+        }
+        if (seat < 0 || seat >= SeatOccupancy.CAPACITY) {
+            throw new IllegalArgumentException("Invalid seat index: " + seat);
+        }
+        return SHARED[sharedIndex(seat, seatClass)];
+    }
+
+    private static int sharedIndex(int seat, SeatClass seatClass) {
+        return seat * (SEAT_CLASSES.length + 1) + (seatClass == null ? 0 : seatClass.ordinal() + 1);
+    }
+
+    private static short parseSeat(String seatNumber) {
+        if (seatNumber == null) {
+            return NO_SEAT;
+        }
+        int seat = SeatOccupancy.indexOf(seatNumber);
+        if (seat < 0) {
+            throw new IllegalArgumentException("Invalid seat number: " + seatNumber);
+        }
+        return (short) seat;
+    }
+
+    /**
+     * @return the seat index in range [0, {@link SeatOccupancy#CAPACITY}), or {@link #NO_SEAT}
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Renders the seat number, e.g. "12A".
+     *
+     * @return the seat number, or null if there is no seat
+     */
+    public String getSeatNumber() {
+        return seatNumber;
+    }
+
+    public SeatClass getSeatClass() {
+        return seatClass;
+    }
+
     /**
      * Checks if this is an economy class seat.
-     * 
+     *
      * @return true if seat class is Economy
      */
     public boolean isEconomy() {
-        return "Economy".equals(seatClass);
+        return seatClass == SeatClass.ECONOMY;
     }
-    
+
     /**
      * Checks if this is a business class seat.
-     * 
+     *
      * @return true if seat class is Business
      */
     public boolean isBusiness() {
-        return "Business".equals(seatClass);
+        return seatClass == SeatClass.BUSINESS;
     }
-    
+
     /**
      * Checks if this is a first class seat.
-     * 
+     *
      * @return true if seat class is First Class
      */
     public boolean isFirstClass() {
-        return "First Class".equals(seatClass);
+        return seatClass == SeatClass.FIRST_CLASS;
     }
 
     /**
      * Compares this seat assignment with another object for equality.
-     * Two seat assignments are equal if they have the same seat number and class.
-     * 
+     * Two seat assignments are equal if they have the same seat and class.
+     *
      * @param o the object to compare with
      * @return true if the objects are equal, false otherwise
      */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        SeatAssignment that = (SeatAssignment) o;
-        return Objects.equals(seatNumber, that.seatNumber) &&
-                Objects.equals(seatClass, that.seatClass);
+        if (!(o instanceof SeatAssignment that)) return false;
+        return seat == that.seat && seatClass == that.seatClass;
     }
 
     /**
      * Returns the hash code for this seat assignment.
-     * 
-     * @return hash code based on seat number and class
+     *
+     * @return hash code based on seat and class
      */
     @Override
     public int hashCode() {
-        return Objects.hash(seatNumber, seatClass);
+        return 31 * seat + (seatClass == null ? 0 : seatClass.ordinal() + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "SeatAssignment(seatNumber=" + getSeatNumber() + ", seatClass=" + seatClass + ")";
     }
 }
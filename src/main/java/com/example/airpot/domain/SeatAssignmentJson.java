@@ -0,0 +1,85 @@
+package com.example.airpot.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializers of {@link SeatAssignment} that keep its JSON format:
+ * {@code {"seatNumber":"12A","seatClass":"First Class","business":false,"economy":false,"firstClass":true}}.
+ * The derived flags are written for clients and ignored when reading.
+ *
+ */
+public final class SeatAssignmentJson {
+
+    private static final SerializedString SEAT_NUMBER = new SerializedString("seatNumber");
+    private static final SerializedString SEAT_CLASS = new SerializedString("seatClass");
+    private static final SerializedString BUSINESS = new SerializedString("business");
+    private static final SerializedString ECONOMY = new SerializedString("economy");
+    private static final SerializedString FIRST_CLASS = new SerializedString("firstClass");
+
+    private SeatAssignmentJson() {
+    }
+
+    public static final class Serializer extends JsonSerializer<SeatAssignment> {
+
+        @Override
+        public void serialize(SeatAssignment value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            write(value, generator);
+        }
+    }
+
+    /**
+     * Writes a seat assignment, for serializers of the types that contain one.
+     *
+     * @param value the seat assignment
+     * @param generator the generator
+     */
+    public static void write(SeatAssignment value, JsonGenerator generator) throws IOException {
+        generator.writeStartObject(value);
+        generator.writeFieldName(SEAT_NUMBER);
+        generator.writeString(value.getSeatNumber());
+        generator.writeFieldName(SEAT_CLASS);
+        SeatClass seatClass = value.getSeatClass();
+        generator.writeString(seatClass == null ? null : seatClass.getLabel());
+        generator.writeFieldName(BUSINESS);
+        generator.writeBoolean(value.isBusiness());
+        generator.writeFieldName(ECONOMY);
+        generator.writeBoolean(value.isEconomy());
+        generator.writeFieldName(FIRST_CLASS);
+        generator.writeBoolean(value.isFirstClass());
+        generator.writeEndObject();
+    }
+
+    public static final class Deserializer extends JsonDeserializer<SeatAssignment> {
+
+        @Override
+        public SeatAssignment deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.isExpectedStartObjectToken()) {
+                return (SeatAssignment) context.handleUnexpectedToken(SeatAssignment.class, parser);
+            }
+            String seatNumber = null;
+            String seatClass = null;
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "seatNumber" -> seatNumber = token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                    case "seatClass" -> seatClass = token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            try {
+                return SeatAssignment.of(seatNumber, seatClass);
+            } catch (IllegalArgumentException ex) {
+                return (SeatAssignment) context.handleWeirdStringValue(SeatAssignment.class, seatNumber, ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.airpot.domain;
+
+/**
+ * Class of service of a seat.
+ * The label is the external form used in requests, responses and stored documents.
+ *
+ */
+public enum SeatClass {
+
+    ECONOMY("Economy"),
+    BUSINESS("Business"),
+    FIRST_CLASS("First Class");
+
+    private final String label;
+
+    SeatClass(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Looks up a seat class by its label.
+     *
+     * @param label the label, e.g. "First Class"
+     * @return the seat class
+     * @throws IllegalArgumentException if no seat class has the label
+     */
+    public static SeatClass fromLabel(String label) {
+        for (SeatClass seatClass : values()) {
+            if (seatClass.label.equals(label)) {
+                return seatClass;
+            }
+        }
+        throw new IllegalArgumentException("Invalid seat class: " + label);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
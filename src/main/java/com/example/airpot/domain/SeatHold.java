@@ -0,0 +1,51 @@
+package com.example.airpot.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A time-limited claim on one seat of a flight, taken during checkout and either
+ * confirmed into a booking or released when it expires.
+ * <p>
+ * The unique (flightNumber, seatNumber) index lets only one hold exist per seat across
+ * all instances, and the TTL index on {@code expiresAt} lets MongoDB delete holds that
+ * were never released, e.g. after a restart.
+ *
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Document(collection = "seat_holds")
+@CompoundIndex(name = "flight_seat_idx", def = "{'flightNumber': 1, 'seatNumber': 1}", unique = true)
+public class SeatHold {
+
+    @Id
+    private String id;
+
+    private String flightNumber;
+
+    private String seatNumber;
+
+    private Instant createdAt;
+
+    /**
+     * When the hold lapses; MongoDB deletes the document shortly after.
+     */
+    @Indexed(name = "expires_at_ttl_idx", expireAfter = "0s")
+    private Instant expiresAt;
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
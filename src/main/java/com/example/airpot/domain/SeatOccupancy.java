@@ -0,0 +1,154 @@
+package com.example.airpot.domain;
+
+import java.util.Arrays;
+
+/**
+ * Compact occupancy index for the seats of a single flight.
+ * Seat numbers follow {@code ^[1-9][0-9]?[A-F]$}, i.e. rows 1-99 with letters A-F,
+ * so every seat maps to one bit of a fixed 594-bit set held in ten longs.
+ * Lookups and updates are O(1) and do not allocate.
+ * Not thread-safe; it is owned by its {@link Flight} aggregate.
+ *
+ */
+public final class SeatOccupancy {
+
+    public static final int ROWS = 99;
+    public static final int SEATS_PER_ROW = 6;
+    public static final int CAPACITY = ROWS * SEATS_PER_ROW;
+
+    private final long[] words;
+
+    public SeatOccupancy() {
+        this.words = new long[(CAPACITY + 63) >>> 6];
+    }
+
+    private SeatOccupancy(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Converts a seat number such as "12A" to its bit index without allocating.
+     *
+     * @param seatNumber the seat number
+     * @return the index in range [0, {@link #CAPACITY}), or -1 if the seat number is malformed
+     */
+    public static int indexOf(String seatNumber) {
+        if (seatNumber == null) {
+            return -1;
+        }
+        int length = seatNumber.length();
+        // a leading zero ("05A") is malformed, as in the seat number pattern
+        if (length < 2 || length > 3 || seatNumber.charAt(0) == '0') {
+            return -1;
+        }
+        int row = 0;
+        for (int i = 0; i < length - 1; i++) {
+            char c = seatNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            row = row * 10 + (c - '0');
+        }
+        int letter = seatNumber.charAt(length - 1) - 'A';
+        if (row < 1 || letter < 0 || letter >= SEATS_PER_ROW) {
+            return -1;
+        }
+        return (row - 1) * SEATS_PER_ROW + letter;
+    }
+
+    /**
+     * Builds the occupancy of the given passengers.
+     *
+     * @param passengers the passengers currently on the flight
+     * @return a new occupancy index
+     */
+    public static SeatOccupancy of(Iterable<Passenger> passengers) {
+        SeatOccupancy occupancy = new SeatOccupancy();
+        for (Passenger passenger : passengers) {
+            int seat = seatOf(passenger);
+            if (seat >= 0) {
+                occupancy.occupy(seat);
+            }
+        }
+        return occupancy;
+    }
+
+    static int seatOf(Passenger passenger) {
+        SeatAssignment seatAssignment = passenger.getSeatAssignment();
+        return seatAssignment == null ? -1 : seatAssignment.getSeat();
+    }
+
+    public boolean isOccupied(int seat) {
+        return (words[seat >>> 6] & (1L << seat)) != 0;
+    }
+
+    /**
+     * Marks a seat as occupied.
+     *
+     * @param seat the seat index
+     * @return true if the seat was free before, false if it was already occupied
+     */
+    public boolean occupy(int seat) {
+        long mask = 1L << seat;
+        long word = words[seat >>> 6];
+        words[seat >>> 6] = word | mask;
+        return (word & mask) == 0;
+    }
+
+    public void release(int seat) {
+        words[seat >>> 6] &= ~(1L << seat);
+    }
+
+    public int occupiedCount() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the occupied seats in a range of seat indexes.
+     *
+     * @param fromSeat the first seat index (inclusive)
+     * @param toSeat the last seat index (exclusive)
+     * @return the number of occupied seats in the range
+     */
+    public int occupiedCount(int fromSeat, int toSeat) {
+        int count = 0;
+        for (int seat = fromSeat; seat < toSeat; seat++) {
+            if (isOccupied(seat)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Copies a range of seats into a bitmap, one bit per seat: bit {@code i % 8} of byte
+     * {@code i / 8} is set if seat {@code fromSeat + i} is occupied.
+     *
+     * @param fromSeat the first seat index (inclusive)
+     * @param toSeat the last seat index (exclusive)
+     * @return the bitmap of the range
+     */
+    public byte[] toBitmap(int fromSeat, int toSeat) {
+        byte[] bitmap = new byte[(toSeat - fromSeat + 7) >>> 3];
+        for (int seat = fromSeat; seat < toSeat; seat++) {
+            if (isOccupied(seat)) {
+                int bit = seat - fromSeat;
+                bitmap[bit >>> 3] |= (byte) (1 << (bit & 7));
+            }
+        }
+        return bitmap;
+    }
+
+    public SeatOccupancy copy() {
+        return new SeatOccupancy(words.clone());
+    }
+
+    @Override
+    public String toString() {
+        return "SeatOccupancy" + Arrays.toString(words);
+    }
+}
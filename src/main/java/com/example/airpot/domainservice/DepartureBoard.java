@@ -0,0 +1,270 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.config.DepartureBoardProperties;
+import com.example.airpot.domain.AuditClock;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.SeatOccupancy;
+import com.example.airpot.dto.FlightSummary;
+import com.example.airpot.repository.FlightRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory index of the flight summaries departing within a rolling horizon, for departure
+ * boards that poll the same time windows over and over. Summaries are bucketed by departure
+ * minute in a {@link NavigableMap}, so a time window is a sub-map view.
+ * <p>
+ * The index is reloaded from the database every {@code airpot.departure-board.refresh-interval},
+ * which moves the horizon forward and picks up writes of other instances, and is updated in
+ * between by the writes of {@link FlightService}. Departed flights are evicted every minute.
+ * Windows that start before the current minute or end after the horizon are answered by the
+ * repository instead. Readers never lock; writers are serialized by a lock and replace a
+ * summary in place, so a reader always finds the flight.
+ * <p>
+ * A loaded summary keeps the version of the flight it was read at, and a passenger change is
+ * applied only if the write that made it produced a newer version. A booking that completes
+ * while the board is being reloaded is therefore counted once, whether the load saw it or not.
+ *
+ */
+@Component
+@Slf4j
+public class DepartureBoard {
+
+    static final String LOOKUPS = "flight.departure.board.lookups";
+
+    private static final Comparator<FlightSummary> DEPARTURE_ORDER = Comparator
+            .comparing(FlightSummary::getScheduledDeparture)
+            .thenComparing(FlightSummary::getId);
+
+    private final FlightRepository flightRepository;
+    private final DepartureBoardProperties properties;
+    private final Counter memoryLookups;
+    private final Counter databaseLookups;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Board board;
+
+    public DepartureBoard(FlightRepository flightRepository, DepartureBoardProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.flightRepository = flightRepository;
+        this.properties = properties;
+        this.memoryLookups = Counter.builder(LOOKUPS)
+                .description("Departure-range summary queries by the source that answered them")
+                .tag("source", "memory")
+                .register(meterRegistry);
+        this.databaseLookups = Counter.builder(LOOKUPS)
+                .description("Departure-range summary queries by the source that answered them")
+                .tag("source", "database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reloads the departures of the next horizon from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${airpot.departure-board.refresh-interval:PT1M}",
+            fixedDelayString = "${airpot.departure-board.refresh-interval:PT1M}")
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+            LocalDateTime until = from.plus(properties.getHorizon());
+            Board loaded = new Board(new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>(), from, until);
+            flightRepository.findDepartureSummaries(from, until).forEach(loaded::put);
+            board = loaded;
+            log.info("Departure board loaded with {} flights until {}", loaded.minuteByFlight().size(), until);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the flights that departed before the current minute.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictDeparted() {
+        if (board == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Board current = board;
+            LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+            // raise the lower bound before clearing, so no query sees a half-evicted window
+            board = new Board(current.byMinute(), current.minuteByFlight(), cutoff, current.until());
+            NavigableMap<LocalDateTime, Map<String, FlightSummary>> departed = current.byMinute().headMap(cutoff, false);
+            departed.values().forEach(flights -> flights.keySet().forEach(current.minuteByFlight()::remove));
+            departed.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Answers a departure-range query from memory if the index covers the whole window.
+     *
+     * @param start the start of the window (inclusive)
+     * @param end the end of the window (inclusive)
+     * @return the summaries ordered by departure and id, or empty if the window is not covered
+     */
+    public Optional<List<FlightSummary>> find(LocalDateTime start, LocalDateTime end) {
+        Board current = board;
+        if (current == null || start.isBefore(current.from()) || end.isAfter(current.until())) {
+            databaseLookups.increment();
+            return Optional.empty();
+        }
+        List<FlightSummary> summaries = new ArrayList<>();
+        for (Map<String, FlightSummary> flights : current.byMinute()
+                .subMap(start.truncatedTo(ChronoUnit.MINUTES), true, end, true).values()) {
+            for (FlightSummary summary : flights.values()) {
+                LocalDateTime departure = summary.getScheduledDeparture();
+                if (!departure.isBefore(start) && !departure.isAfter(end)) {
+                    summaries.add(summary);
+                }
+            }
+        }
+        summaries.sort(DEPARTURE_ORDER);
+        memoryLookups.increment();
+        return Optional.of(summaries);
+    }
+
+    /**
+     * Adds a created flight.
+     *
+     * @param flight the persisted flight
+     */
+    public void add(Flight flight) {
+        update(flight.getFlightNumber(), current -> FlightSummary.builder()
+                .id(flight.getId())
+                .flightNumber(flight.getFlightNumber())
+                .origin(flight.getOrigin())
+                .destination(flight.getDestination())
+                .scheduledDeparture(flight.getScheduledDeparture())
+                .scheduledArrival(flight.getScheduledArrival())
+                .passengerCount(flight.getPassengerCount())
+                .seatsAvailable(SeatOccupancy.CAPACITY - flight.getPassengerCount())
+                .lastModifiedAt(flight.getLastModifiedAt())
+                .version(flight.getVersion())
+                .build());
+    }
+
+    /**
+     * Adjusts the passenger count of a flight after passengers were added or removed.
+     * Ignored if the summary was read at or after the version the change produced.
+     *
+     * @param flightNumber the unique flight number
+     * @param delta the number of passengers added, negative if removed
+     * @param version the version of the flight written by the change
+     */
+    public void passengersChanged(String flightNumber, int delta, long version) {
+        update(flightNumber, current -> current == null || isReflected(current, version) ? current : FlightSummary.builder()
+                .id(current.getId())
+                .flightNumber(current.getFlightNumber())
+                .origin(current.getOrigin())
+                .destination(current.getDestination())
+                .scheduledDeparture(current.getScheduledDeparture())
+                .scheduledArrival(current.getScheduledArrival())
+                .passengerCount(current.getPassengerCount() + delta)
+                .seatsAvailable(current.getSeatsAvailable() - delta)
+                .lastModifiedAt(AuditClock.now())
+                // the version read stays, as changes may be applied out of order
+                .version(current.getVersion())
+                .build());
+    }
+
+    private static boolean isReflected(FlightSummary summary, long version) {
+        return summary.getVersion() != null && version <= summary.getVersion();
+    }
+
+    /**
+     * Removes a deleted flight.
+     *
+     * @param flightNumber the unique flight number
+     */
+    public void remove(String flightNumber) {
+        update(flightNumber, current -> null);
+    }
+
+    private void update(String flightNumber, UnaryOperator<FlightSummary> change) {
+        if (board == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Board current = board;
+            FlightSummary next = change.apply(current.get(flightNumber));
+            if (next != null && next.getScheduledDeparture() != null
+                    && !next.getScheduledDeparture().isBefore(current.from())
+                    && !next.getScheduledDeparture().isAfter(current.until())) {
+                current.put(next);
+            } else {
+                current.remove(flightNumber);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private record Board(ConcurrentSkipListMap<LocalDateTime, Map<String, FlightSummary>> byMinute,
+                         Map<String, LocalDateTime> minuteByFlight,
+                         LocalDateTime from, LocalDateTime until) {
+
+        FlightSummary get(String flightNumber) {
+            LocalDateTime minute = minuteByFlight.get(flightNumber);
+            Map<String, FlightSummary> flights = minute == null ? null : byMinute.get(minute);
+            return flights == null ? null : flights.get(flightNumber);
+        }
+
+        /**
+         * Puts the summary into its minute, replacing the previous summary in place if it departs in
+         * the same minute. A summary moved to another minute is added there before it is removed from
+         * the old one.
+         */
+        void put(FlightSummary summary) {
+            LocalDateTime minute = summary.getScheduledDeparture().truncatedTo(ChronoUnit.MINUTES);
+            byMinute.computeIfAbsent(minute, k -> new ConcurrentHashMap<>()).put(summary.getFlightNumber(), summary);
+            LocalDateTime previous = minuteByFlight.put(summary.getFlightNumber(), minute);
+            if (previous != null && !previous.equals(minute)) {
+                removeFrom(previous, summary.getFlightNumber());
+            }
+        }
+
+        void remove(String flightNumber) {
+            LocalDateTime minute = minuteByFlight.remove(flightNumber);
+            if (minute != null) {
+                removeFrom(minute, flightNumber);
+            }
+        }
+
+        private void removeFrom(LocalDateTime minute, String flightNumber) {
+            Map<String, FlightSummary> flights = byMinute.get(minute);
+            if (flights != null) {
+                flights.remove(flightNumber);
+                if (flights.isEmpty()) {
+                    byMinute.remove(minute, flights);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.domain.FlightEvent;
+
+import java.util.List;
+
+/**
+ * In-process consumer of Flight domain events, called by the {@link FlightOutboxRelay}.
+ * <p>
+ * Delivery is at-least-once: a batch is redelivered to every subscriber until all of them
+ * accepted it, so subscribers must tolerate events they have already seen, e.g. by event id.
+ *
+ */
+public interface FlightEventSubscriber {
+
+    /**
+     * Handles a batch of events, ordered by occurrence within each flight.
+     * Throwing makes the relay deliver the batch again on its next poll.
+     *
+     * @param events the events
+     */
+    void onEvents(List<FlightEvent> events);
+}
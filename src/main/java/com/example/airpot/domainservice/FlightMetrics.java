@@ -0,0 +1,115 @@
+package com.example.airpot.domainservice;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Business meters of the flight booking flow: outcome counters that latency timers cannot
+ * show, and the distribution of flight manifest sizes, which drives the cost of every
+ * load/modify/save of a Flight aggregate.
+ *
+ */
+@Component
+public class FlightMetrics {
+
+    static final String SEAT_CONFLICTS = "flight.booking.seat.conflicts";
+    static final String FLIGHT_NOT_FOUND = "flight.not.found";
+    static final String PASSENGER_NOT_FOUND = "flight.passenger.not.found";
+    static final String PASSENGERS = "flight.passengers";
+    static final String DOCUMENT_SIZE = "flight.document.size";
+    static final String HOLDS_EXPIRED = "seat.holds.expired";
+
+    private final Counter[][] seatConflicts;
+    private final Counter flightNotFound;
+    private final Counter passengerNotFound;
+    private final Counter holdsExpired;
+    private final DistributionSummary passengers;
+    private final DistributionSummary documentSize;
+
+    public FlightMetrics(MeterRegistry meterRegistry) {
+        this.seatConflicts = new Counter[SeatOperation.values().length][SeatConflictReason.values().length];
+        for (SeatOperation operation : SeatOperation.values()) {
+            for (SeatConflictReason reason : SeatConflictReason.values()) {
+                seatConflicts[operation.ordinal()][reason.ordinal()] = Counter.builder(SEAT_CONFLICTS)
+                        .description("Bookings and seat holds rejected because the seat was taken, on hold or invalid")
+                        .tag("operation", operation.tag())
+                        .tag("reason", reason.tag())
+                        .register(meterRegistry);
+            }
+        }
+        this.flightNotFound = Counter.builder(FLIGHT_NOT_FOUND)
+                .description("Flight operations on an unknown flight number")
+                .register(meterRegistry);
+        this.passengerNotFound = Counter.builder(PASSENGER_NOT_FOUND)
+                .description("Passenger removals for a passenger not on the flight")
+                .register(meterRegistry);
+        this.holdsExpired = Counter.builder(HOLDS_EXPIRED)
+                .description("Seat holds released because they were not confirmed in time")
+                .register(meterRegistry);
+        this.passengers = DistributionSummary.builder(PASSENGERS)
+                .description("Passengers on a flight document when it is read or written")
+                .baseUnit("passengers")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.documentSize = DistributionSummary.builder(DOCUMENT_SIZE)
+                .description("Encoded size of a flight document when it is written")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void seatConflict(SeatOperation operation, SeatConflictReason reason) {
+        seatConflicts(operation, reason, 1);
+    }
+
+    public void seatConflicts(SeatOperation operation, SeatConflictReason reason, int count) {
+        seatConflicts[operation.ordinal()][reason.ordinal()].increment(count);
+    }
+
+    public void flightNotFound() {
+        flightNotFound.increment();
+    }
+
+    public void passengerNotFound() {
+        passengerNotFound.increment();
+    }
+
+    public void holdsExpired(int count) {
+        holdsExpired.increment(count);
+    }
+
+    public void recordPassengers(int count) {
+        passengers.record(count);
+    }
+
+    public void recordDocumentSize(int bytes) {
+        documentSize.record(bytes);
+    }
+
+    /**
+     * What was rejected: a single booking, a passenger of a batch booking, or a seat hold.
+     */
+    public enum SeatOperation {
+        SINGLE, BATCH, HOLD;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Why the seat was refused: already assigned, including to an earlier passenger of the
+     * same batch, held by another checkout, or not a seat of the cabin at all.
+     */
+    public enum SeatConflictReason {
+        ASSIGNED, HELD, INVALID;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
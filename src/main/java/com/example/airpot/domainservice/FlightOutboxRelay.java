@@ -0,0 +1,163 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.cache.FlightCache;
+import com.example.airpot.config.OutboxProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.FlightEvent;
+import com.example.airpot.repository.FlightOutboxRepository;
+import com.example.airpot.repository.FlightRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background relay of the transactional outbox: drains undelivered Flight domain events in
+ * batches and hands them to every {@link FlightEventSubscriber}.
+ * <p>
+ * Each poll reads up to {@code airpot.outbox.batch-size} flights with pending events through
+ * a partial index, plus the same number of events of deleted flights from the outbox
+ * collection, delivers them as one batch, and only then removes them with one bulk update
+ * and one delete. A crash or a failing subscriber therefore leads to redelivery, never to
+ * loss. Relays of several instances may deliver the same events; subscribers deduplicate.
+ * <p>
+ * Meters: {@code flight.outbox.lag} (from recording to delivery), {@code flight.outbox.delivered},
+ * {@code flight.outbox.delivery.failures} per subscriber and {@code flight.outbox.oldest.age},
+ * the age of the oldest event left undelivered by the last poll.
+ *
+ */
+@Component
+@Slf4j
+public class FlightOutboxRelay {
+
+    static final String LAG = "flight.outbox.lag";
+    static final String DELIVERED = "flight.outbox.delivered";
+    static final String FAILURES = "flight.outbox.delivery.failures";
+    static final String OLDEST_AGE = "flight.outbox.oldest.age";
+
+    private final FlightRepository flightRepository;
+    private final FlightOutboxRepository outboxRepository;
+    private final List<FlightEventSubscriber> subscribers;
+    private final FlightCache flightCache;
+    private final OutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Timer lag;
+    private final Counter delivered;
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+
+    public FlightOutboxRelay(FlightRepository flightRepository, FlightOutboxRepository outboxRepository,
+                             List<FlightEventSubscriber> subscribers, FlightCache flightCache,
+                             OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.flightRepository = flightRepository;
+        this.outboxRepository = outboxRepository;
+        this.subscribers = subscribers;
+        this.flightCache = flightCache;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.lag = Timer.builder(LAG)
+                .description("Time from a flight event being recorded to its delivery to all subscribers")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.delivered = Counter.builder(DELIVERED)
+                .description("Flight events delivered to all subscribers")
+                .register(meterRegistry);
+        Gauge.builder(OLDEST_AGE, this, FlightOutboxRelay::oldestPendingAgeSeconds)
+                .description("Age of the oldest flight event left undelivered by the last poll")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delivers one batch of pending events and removes them once every subscriber accepted it.
+     */
+    @Scheduled(fixedDelayString = "${airpot.outbox.poll-interval:PT0.5S}")
+    public void drain() {
+        Instant now = Instant.now();
+        List<FlightEvent> batch = new ArrayList<>();
+        List<FlightEvent> heldBack = new ArrayList<>();
+
+        List<Flight> flights = flightRepository.findWithPendingEvents(properties.getBatchSize());
+        Map<String, List<String>> deliveredByFlightId = new LinkedHashMap<>();
+        for (Flight flight : flights) {
+            batch.addAll(flight.getEvents());
+            deliveredByFlightId.put(flight.getId(), flight.getEvents().stream().map(FlightEvent::getId).toList());
+        }
+
+        List<String> deliveredOutboxIds = new ArrayList<>();
+        for (FlightEvent event : outboxRepository.findByOrderByIdAsc(Limit.of(properties.getBatchSize()))) {
+            if (event.getType() == FlightEvent.Type.FLIGHT_DELETED && flightRepository.existsById(event.getFlightId())) {
+                // recorded by a delete that has not completed yet, or never will
+                if (Duration.between(event.getOccurredAt(), now).compareTo(properties.getOrphanTimeout()) < 0) {
+                    heldBack.add(event);
+                    continue;
+                }
+                log.warn("Dropping {} event {} of flight {}, which was not deleted",
+                        event.getType(), event.getId(), event.getFlightNumber());
+            } else {
+                batch.add(event);
+            }
+            deliveredOutboxIds.add(event.getId());
+        }
+
+        if (!batch.isEmpty() && !deliver(batch)) {
+            heldBack.addAll(batch);
+            oldestPendingMillis.set(oldest(heldBack));
+            return;
+        }
+        flightRepository.removeEvents(deliveredByFlightId);
+        if (!deliveredOutboxIds.isEmpty()) {
+            outboxRepository.deleteAllById(deliveredOutboxIds);
+        }
+        flights.forEach(flight -> flightCache.evict(flight.getFlightNumber()));
+        oldestPendingMillis.set(oldest(heldBack));
+
+        if (!batch.isEmpty()) {
+            Instant deliveredAt = Instant.now();
+            batch.forEach(event -> lag.record(Duration.between(event.getOccurredAt(), deliveredAt)));
+            delivered.increment(batch.size());
+            log.debug("Delivered {} flight events of {} flights", batch.size(), flights.size());
+        }
+    }
+
+    private boolean deliver(List<FlightEvent> batch) {
+        List<FlightEvent> events = Collections.unmodifiableList(batch);
+        for (FlightEventSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onEvents(events);
+            } catch (RuntimeException ex) {
+                meterRegistry.counter(FAILURES, "subscriber", subscriber.getClass().getSimpleName()).increment();
+                log.warn("Subscriber {} failed on {} flight events, redelivering on the next poll",
+                        subscriber.getClass().getSimpleName(), events.size(), ex);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long oldest(List<FlightEvent> events) {
+        return events.stream()
+                .mapToLong(event -> event.getOccurredAt().toEpochMilli())
+                .min()
+                .orElse(0L);
+    }
+
+    private double oldestPendingAgeSeconds() {
+        long oldest = oldestPendingMillis.get();
+        return oldest == 0 ? 0 : TimeUnit.MILLISECONDS.toSeconds(Math.max(0, System.currentTimeMillis() - oldest));
+    }
+}
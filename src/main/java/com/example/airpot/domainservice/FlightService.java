@@ -1,25 +1,51 @@
 package com.example.airpot.domainservice;
 
+import com.example.airpot.cache.FlightCache;
+import com.example.airpot.config.CabinLayoutProperties;
 import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.FlightEvent;
+import com.example.airpot.domain.HeldSeat;
 import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.domain.SeatHold;
+import com.example.airpot.domain.SeatOccupancy;
+import com.example.airpot.domainservice.FlightMetrics.SeatConflictReason;
+import com.example.airpot.domainservice.FlightMetrics.SeatOperation;
+import com.example.airpot.dto.FlightPage;
+import com.example.airpot.dto.FlightSummary;
+import com.example.airpot.dto.Itinerary;
+import com.example.airpot.dto.PassengerBookingResult;
+import com.example.airpot.dto.SeatMap;
 import com.example.airpot.repository.FlightRepository;
 import com.example.airpot.repository.PassengerRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Domain service for managing flight operations and business logic.
  * Handles passenger management, flight queries, and maintains data consistency.
+ * Every public operation is timed as {@code flight.service}, tagged by method.
  *
  */
 @Service
@@ -27,42 +53,299 @@ import java.util.Objects;
 @Transactional
 @Validated
 @Slf4j
+@Timed(value = "flight.service", histogram = true)
 public class FlightService {
 
+    /**
+     * Upper bound for the page size of {@link #findFlightsPage(String, int)}.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final FlightRepository flightRepository;
     private final PassengerRepository passengerRepository;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final FlightCache flightCache;
+    private final RouteGraph routeGraph;
+    private final FlightMetrics flightMetrics;
+    private final CabinLayoutProperties cabinLayout;
+    private final DepartureBoard departureBoard;
+    private final PassengerResolver passengerResolver;
+
+    /**
+     * Creates a new flight.
+     *
+     * @param flight the flight to create
+     * @return the persisted flight
+     * @throws IllegalArgumentException if a flight with the same flight number already exists
+     */
+    public Flight createFlight(@NotNull(message = "Flight is required") Flight flight) {
+
+        Objects.requireNonNull(flight, "Flight cannot be null");
+
+        log.debug("Creating flight {}", flight.getFlightNumber());
+
+        if (flightExists(flight.getFlightNumber())) {
+            throw new IllegalArgumentException("Flight Already exists");
+        }
+
+        flight.registerEvent(FlightEvent.flightCreated(flight));
+        Flight savedFlight;
+        try {
+            savedFlight = flightRepository.save(flight);
+        } catch (DuplicateKeyException ex) {
+            // created concurrently; the unique flightNumber index has the final word
+            throw new IllegalArgumentException("Flight Already exists");
+        }
+        flightCache.add(savedFlight.getFlightNumber());
+        routeGraph.add(savedFlight);
+        departureBoard.add(savedFlight);
+
+        log.info("Successfully created flight {}", savedFlight.getFlightNumber());
+        return savedFlight;
+    }
+
+    /**
+     * Deletes a flight and its passenger records by its flight number and records a FLIGHT_DELETED event.
+     * A delete that races with a change of the flight is retried on the fresh flight.
+     *
+     * @param flightNumber the unique flight number
+     * @return true if the flight was deleted, false if it did not exist
+     */
+    public boolean deleteFlight(@NotBlank(message = "Flight number is required") String flightNumber) {
+
+        Objects.requireNonNull(flightNumber, "Flight number cannot be null");
+
+        boolean removed = retryExecutor.execute(flightNumber, () -> flightRepository
+                .findByFlightNumber(flightNumber)
+                .map(flight -> {
+                    flightRepository.deleteRecordingEvent(flight);
+                    return flight;
+                }))
+                .map(flight -> {
+                    // the flight is gone, so nothing refers to its passenger records any more
+                    passengerRepository.deleteAllById(flight.getPassengers().stream()
+                            .map(Passenger::getId).filter(Objects::nonNull).toList());
+                    return true;
+                })
+                .orElse(false);
+        flightCache.remove(flightNumber);
+        routeGraph.remove(flightNumber);
+        departureBoard.remove(flightNumber);
+
+        if (removed) {
+            log.info("Successfully deleted flight {}", flightNumber);
+        }
+        return removed;
+    }
 
     /**
      * Adds a passenger to a specific flight.
-     * Validates seat availability and saves the updated flight.
+     * The seat check and the append are done in a single conditional update on the flight
+     * document, so concurrent bookings cannot overwrite each other or double-book a seat.
      * 
      * @param flightNumber the unique flight number
      * @param passenger the passenger to add with seat assignment
-     * @throws IllegalArgumentException if flight is not found or seat is taken
+     * @throws IllegalArgumentException if flight is not found or seat is taken or on hold
      * @throws IllegalArgumentException if parameters are null or invalid
      */
     public void addPassengerToFlight(
             @NotBlank(message = "Flight number is required") String flightNumber, 
             @Valid @NotNull(message = "Passenger is required") Passenger passenger) {
-        
+        addPassengerToFlight(flightNumber, passenger, null);
+    }
+
+    /**
+     * Adds a passenger to a specific flight on behalf of a seat hold.
+     * Behaves like {@link #addPassengerToFlight(String, Passenger)}, except that the seat may
+     * be held by the given hold.
+     *
+     * @param flightNumber the unique flight number
+     * @param passenger the passenger to add with seat assignment
+     * @param holdId the hold the booking confirms, or null
+     * @throws IllegalArgumentException if flight is not found or seat is taken or held by another hold
+     * @throws IllegalArgumentException if parameters are null or invalid
+     */
+    public void addPassengerToFlight(
+            @NotBlank(message = "Flight number is required") String flightNumber,
+            @Valid @NotNull(message = "Passenger is required") Passenger passenger,
+            String holdId) {
+
         Objects.requireNonNull(flightNumber, "Flight number cannot be null");
         Objects.requireNonNull(passenger, "Passenger cannot be null");
         
         log.debug("Adding passenger {} to flight {}", passenger.getName(), flightNumber);
-        
-        Flight flight = flightRepository
-                .findByFlightNumber(flightNumber)
-                .orElseThrow(() -> new IllegalArgumentException("Flight not found: " + flightNumber));
 
-        flight.addPassenger(passenger);
+        String seatNumber = passenger.hasSeatAssignment() ? passenger.getSeatAssignment().getSeatNumber() : null;
         passengerRepository.save(passenger);
-        flightRepository.save(flight);
+        Optional<Long> version = flightRepository.addPassengerIfSeatAvailable(flightNumber, passenger, holdId);
+        flightCache.evict(flightNumber);
+        if (version.isEmpty()) {
+            // nothing matched: undo the passenger record and work out which predicate failed
+            passengerRepository.delete(passenger);
+            if (!flightExists(flightNumber)) {
+                throw flightNotFound(flightNumber);
+            }
+            throw seatConflict(SeatOperation.SINGLE, flightNumber, seatNumber, holdId);
+        }
+        departureBoard.passengersChanged(flightNumber, 1, version.get());
         
         log.info("Successfully added passenger {} to flight {}", passenger.getName(), flightNumber);
     }
 
+    /**
+     * Adds a group of passengers to a specific flight.
+     * All seats are validated in one pass against each other, against the current
+     * occupancy of the flight and against the seats on hold; conflicting passengers are rejected individually while
+     * the rest are booked. Accepted passengers are stored with one bulk insert and
+     * appended to the flight with one conditional update. If a seat is taken
+     * concurrently between the check and the update, the whole batch is re-evaluated.
+     *
+     * @param flightNumber the unique flight number
+     * @param passengers the passengers to add, in request order
+     * @return one result per passenger, in request order
+     * @throws IllegalArgumentException if flight is not found or parameters are invalid
+     */
+    public List<PassengerBookingResult> addPassengersToFlight(
+            @NotBlank(message = "Flight number is required") String flightNumber,
+            @NotNull(message = "Passengers are required") List<@Valid Passenger> passengers) {
+
+        Objects.requireNonNull(flightNumber, "Flight number cannot be null");
+        Objects.requireNonNull(passengers, "Passengers cannot be null");
+
+        log.debug("Adding {} passengers to flight {}", passengers.size(), flightNumber);
+
+        Map<SeatConflictReason, Integer> conflicts = new EnumMap<>(SeatConflictReason.class);
+        List<PassengerBookingResult> results = retryExecutor.execute(flightNumber, () -> {
+            Flight flight = flightRepository
+                    .findByFlightNumber(flightNumber)
+                    .orElseThrow(() -> flightNotFound(flightNumber));
+            conflicts.clear();
+
+            List<Passenger> accepted = new ArrayList<>(passengers.size());
+            List<String> rejections = new ArrayList<>(passengers.size());
+            for (Passenger passenger : passengers) {
+                try {
+                    flight.addPassenger(passenger);
+                    accepted.add(passenger);
+                    rejections.add(null);
+                } catch (IllegalArgumentException ex) {
+                    rejections.add(ex.getMessage());
+                    conflicts.merge(rejectionReason(flight, passenger), 1, Integer::sum);
+                }
+            }
+
+            if (!accepted.isEmpty()) {
+                passengerRepository.insert(accepted);
+                Optional<Long> version = flightRepository.addPassengersIfSeatsAvailable(flightNumber, accepted);
+                flightCache.evict(flightNumber);
+                if (version.isEmpty()) {
+                    passengerRepository.deleteAllById(accepted.stream().map(Passenger::getId).toList());
+                    throw new OptimisticLockingFailureException("Seats on flight " + flightNumber + " changed during batch booking");
+                }
+                departureBoard.passengersChanged(flightNumber, accepted.size(), version.get());
+            }
+            return toBookingResults(passengers, rejections);
+        });
+        conflicts.forEach((reason, count) -> flightMetrics.seatConflicts(SeatOperation.BATCH, reason, count));
+
+        log.info("Added {} of {} passengers to flight {}",
+                results.stream().filter(r -> r.getStatus() == PassengerBookingResult.Status.BOOKED).count(),
+                passengers.size(), flightNumber);
+        return results;
+    }
+
+    /**
+     * Records a seat hold in the flight, so bookings of the seat by anyone but the holder are
+     * rejected by their conditional update.
+     *
+     * @param hold the persisted hold
+     * @throws IllegalArgumentException if the flight is not found, or the seat is taken or on hold
+     */
+    public void recordSeatHold(@NotNull(message = "Hold is required") SeatHold hold) {
+        String flightNumber = hold.getFlightNumber();
+        boolean recorded = flightRepository.addSeatHoldIfSeatAvailable(flightNumber, HeldSeat.of(hold));
+        flightCache.evict(flightNumber);
+        if (!recorded) {
+            if (!flightExists(flightNumber)) {
+                throw flightNotFound(flightNumber);
+            }
+            throw seatConflict(SeatOperation.HOLD, flightNumber, hold.getSeatNumber(), null);
+        }
+    }
+
+    /**
+     * Removes a released seat hold from its flight.
+     *
+     * @param flightNumber the unique flight number
+     * @param holdId the hold id
+     */
+    public void releaseSeatHold(
+            @NotBlank(message = "Flight number is required") String flightNumber,
+            @NotBlank(message = "Hold ID is required") String holdId) {
+        if (flightRepository.removeSeatHold(flightNumber, holdId)) {
+            flightCache.evict(flightNumber);
+        }
+    }
+
+    /**
+     * Removes expired seat holds from their flights. Expired holds block nothing, so this only
+     * keeps the flight documents small.
+     *
+     * @param holds the expired holds
+     */
+    public void removeExpiredSeatHolds(@NotNull(message = "Holds are required") List<SeatHold> holds) {
+        flightRepository.removeExpiredSeatHolds(holds);
+    }
+
+    private IllegalArgumentException seatConflict(SeatOperation operation, String flightNumber,
+                                                  String seatNumber, String holdId) {
+        if (seatNumber != null && flightRepository.isSeatHeld(flightNumber, seatNumber, holdId)) {
+            flightMetrics.seatConflict(operation, SeatConflictReason.HELD);
+            return new IllegalArgumentException("Seat " + seatNumber + " is on hold");
+        }
+        flightMetrics.seatConflict(operation, SeatConflictReason.ASSIGNED);
+        return new IllegalArgumentException("Seat " + seatNumber + " is already assigned");
+    }
+
+    /**
+     * The reason {@link Flight#addPassenger} rejected a passenger of a batch.
+     */
+    private static SeatConflictReason rejectionReason(Flight flight, Passenger passenger) {
+        SeatAssignment seatAssignment = passenger.getSeatAssignment();
+        if (seatAssignment.getSeat() < 0) {
+            return SeatConflictReason.INVALID;
+        }
+        return flight.isSeatHeld(seatAssignment.getSeatNumber(), null, Instant.now())
+                ? SeatConflictReason.HELD
+                : SeatConflictReason.ASSIGNED;
+    }
+
+    private IllegalArgumentException flightNotFound(String flightNumber) {
+        flightMetrics.flightNotFound();
+        return new IllegalArgumentException("Flight not found: " + flightNumber);
+    }
+
+    private static List<PassengerBookingResult> toBookingResults(List<Passenger> passengers, List<String> rejections) {
+        List<PassengerBookingResult> results = new ArrayList<>(passengers.size());
+        for (int i = 0; i < passengers.size(); i++) {
+            Passenger passenger = passengers.get(i);
+            String rejection = rejections.get(i);
+            results.add(PassengerBookingResult.builder()
+                    .index(i)
+                    .passengerId(rejection == null ? passenger.getId() : null)
+                    .name(passenger.getName())
+                    .seatNumber(passenger.hasSeatAssignment() ? passenger.getSeatAssignment().getSeatNumber() : null)
+                    .status(rejection == null ? PassengerBookingResult.Status.BOOKED : PassengerBookingResult.Status.REJECTED)
+                    .message(rejection)
+                    .build());
+        }
+        return results;
+    }
+
     /**
      * Removes a passenger from a specific flight.
+     * The flight is saved with optimistic locking; a write that loses a race against a
+     * concurrent change is retried on a freshly loaded flight.
      * 
      * @param flightNumber the unique flight number
      * @param passengerId the unique passenger identifier
@@ -77,16 +360,28 @@ public class FlightService {
         Objects.requireNonNull(passengerId, "Passenger ID cannot be null");
         
         log.debug("Removing passenger {} from flight {}", passengerId, flightNumber);
-        
-        Flight flight = flightRepository
-                .findByFlightNumber(flightNumber)
-                .orElseThrow(() -> new IllegalArgumentException("Flight not found: " + flightNumber));
 
-        boolean removed = flight.removePassenger(passengerId);
+        boolean removed = retryExecutor.execute(flightNumber, () -> {
+            Flight flight = flightRepository
+                    .findByFlightNumber(flightNumber)
+                    .map(loaded -> passengerResolver.resolve(loaded, passengerId))
+                    .orElseThrow(() -> flightNotFound(flightNumber));
+
+            boolean found = flight.removePassenger(passengerId);
+            if (found) {
+                Flight saved = flightRepository.save(flight);
+                // evict rather than put: a concurrent booking may already have evicted a newer state
+                flightCache.evict(flightNumber);
+                departureBoard.passengersChanged(flightNumber, -1, saved.getVersion());
+            }
+            return found;
+        });
+
         if (removed) {
-            flightRepository.save(flight);
+            passengerRepository.deleteById(passengerId);
             log.info("Successfully removed passenger {} from flight {}", passengerId, flightNumber);
         } else {
+            flightMetrics.passengerNotFound();
             log.warn("Passenger {} not found on flight {}", passengerId, flightNumber);
         }
 
@@ -95,6 +390,7 @@ public class FlightService {
 
     /**
      * Retrieves a flight with all its passengers.
+     * Served from the flight cache when possible; the returned flight must not be modified.
      * 
      * @param flightNumber the unique flight number
      * @return the flight with passenger information
@@ -106,9 +402,138 @@ public class FlightService {
         
         Objects.requireNonNull(flightNumber, "Flight number cannot be null");
         
-        return flightRepository
-                .findByFlightNumber(flightNumber)
-                .orElseThrow(() -> new IllegalArgumentException("Flight not found: " + flightNumber));
+        return flightCache
+                .get(flightNumber, key -> flightRepository.findByFlightNumber(key).map(passengerResolver::resolve))
+                .orElseThrow(() -> flightNotFound(flightNumber));
+    }
+
+    /**
+     * Retrieves what identifies the current state of a flight, so conditional requests can be
+     * answered without loading the manifest: the cached flight if there is one, as that is what
+     * {@link #getFlightWithPassengers(String)} returns, otherwise a projection of the flight number,
+     * version and lastModifiedAt.
+     *
+     * @param flightNumber the unique flight number
+     * @return the flight, possibly without passengers and schedule
+     * @throws IllegalArgumentException if flight is not found
+     */
+    @Transactional(readOnly = true)
+    public Flight getFlightValidators(
+            @NotBlank(message = "Flight number is required") String flightNumber) {
+
+        Objects.requireNonNull(flightNumber, "Flight number cannot be null");
+
+        return flightCache.getIfPresent(flightNumber)
+                .or(() -> flightRepository.findValidators(flightNumber))
+                .orElseThrow(() -> flightNotFound(flightNumber));
+    }
+
+    /**
+     * Retrieves the seat availability of a flight per cabin.
+     * Computed from the seat numbers of the manifest only and cached until the next booking change.
+     *
+     * @param flightNumber the unique flight number
+     * @return the seat map of the flight
+     * @throws IllegalArgumentException if flight is not found
+     */
+    @Transactional(readOnly = true)
+    public SeatMap getSeatMap(
+            @NotBlank(message = "Flight number is required") String flightNumber) {
+
+        Objects.requireNonNull(flightNumber, "Flight number cannot be null");
+
+        return flightCache
+                .getSeatMap(flightNumber, key -> flightRepository.findSeatAssignments(key).map(this::toSeatMap))
+                .orElseThrow(() -> flightNotFound(flightNumber));
+    }
+
+    private SeatMap toSeatMap(Flight flight) {
+        SeatOccupancy occupancy = SeatOccupancy.of(flight.getPassengers());
+        int firstClassEnd = Math.min(cabinLayout.getFirstClassRows(), SeatOccupancy.ROWS);
+        int businessEnd = Math.min(firstClassEnd + cabinLayout.getBusinessRows(), SeatOccupancy.ROWS);
+
+        List<SeatMap.Cabin> cabins = new ArrayList<>(3);
+        addCabin(cabins, "First Class", 1, firstClassEnd, occupancy);
+        addCabin(cabins, "Business", firstClassEnd + 1, businessEnd, occupancy);
+        addCabin(cabins, "Economy", businessEnd + 1, SeatOccupancy.ROWS, occupancy);
+        return SeatMap.builder()
+                .flightNumber(flight.getFlightNumber())
+                .version(flight.getVersion())
+                .seatsPerRow(SeatOccupancy.SEATS_PER_ROW)
+                .cabins(cabins)
+                .build();
+    }
+
+    private static void addCabin(List<SeatMap.Cabin> cabins, String seatClass, int firstRow, int lastRow,
+                                 SeatOccupancy occupancy) {
+        if (firstRow > lastRow) {
+            return;
+        }
+        int fromSeat = (firstRow - 1) * SeatOccupancy.SEATS_PER_ROW;
+        int toSeat = lastRow * SeatOccupancy.SEATS_PER_ROW;
+        int occupied = occupancy.occupiedCount(fromSeat, toSeat);
+        cabins.add(SeatMap.Cabin.builder()
+                .seatClass(seatClass)
+                .firstRow(firstRow)
+                .lastRow(lastRow)
+                .total(toSeat - fromSeat)
+                .occupied(occupied)
+                .free(toSeat - fromSeat - occupied)
+                .occupiedBitmap(Base64.getEncoder().encodeToString(occupancy.toBitmap(fromSeat, toSeat)))
+                .build());
+    }
+
+    /**
+     * Retrieves one page of flights ordered by scheduled departure and id.
+     * Uses keyset pagination, so the cost of a page does not grow with its position.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the page size, capped at {@link #MAX_PAGE_SIZE}
+     * @return the page with the cursor of the next page, if any
+     * @throws IllegalArgumentException if the size is not positive or the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public FlightPage findFlightsPage(String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        int limit = Math.min(size, MAX_PAGE_SIZE);
+        FlightPage.Cursor after = cursor == null || cursor.isBlank() ? null : FlightPage.Cursor.decode(cursor);
+
+        // fetch one extra flight to learn whether another page follows
+        List<Flight> flights = flightRepository.findPageAfter(
+                after == null ? null : after.scheduledDeparture(),
+                after == null ? null : after.id(),
+                limit + 1);
+
+        String nextCursor = null;
+        if (flights.size() > limit) {
+            flights = flights.subList(0, limit);
+            nextCursor = FlightPage.Cursor.of(flights.get(limit - 1)).encode();
+        }
+        return FlightPage.builder().flights(passengerResolver.resolve(flights)).nextCursor(nextCursor).build();
+    }
+
+    /**
+     * Retrieves all flights with their passengers.
+     *
+     * @return all flights
+     */
+    @Transactional(readOnly = true)
+    public List<Flight> findAllFlights() {
+        return passengerResolver.resolve(flightRepository.findAll());
+    }
+
+    /**
+     * Streams all flights ordered by scheduled departure and id from a database cursor,
+     * so memory use stays bounded regardless of the number of flights.
+     * The caller must close the returned stream.
+     *
+     * @return a lazily fetched stream of flights
+     */
+    @Transactional(readOnly = true)
+    public Stream<Flight> streamAllFlights() {
+        return passengerResolver.resolve(flightRepository.streamAllOrderedByDeparture());
     }
 
     /**
@@ -129,7 +554,7 @@ public class FlightService {
         
         log.debug("Finding flights from {} to {}", origin, destination);
         
-        return flightRepository.findByRoute(origin, destination);
+        return passengerResolver.resolve(flightRepository.findByRoute(origin, destination));
     }
 
     /**
@@ -154,11 +579,93 @@ public class FlightService {
         
         log.debug("Finding flights departing between {} and {}", start, end);
         
-        return flightRepository.findFlightsByDepartureTimeRange(start, end);
+        return passengerResolver.resolve(flightRepository.findFlightsByDepartureTimeRange(start, end));
+    }
+
+    /**
+     * Finds passenger-free summaries of the flights for a specific route.
+     *
+     * @param origin the departure location
+     * @param destination the arrival location
+     * @return summaries of the flights matching the route, ordered by departure
+     * @throws IllegalArgumentException if parameters are invalid
+     */
+    @Transactional(readOnly = true)
+    public List<FlightSummary> findFlightSummariesByRoute(
+            @NotBlank(message = "Origin is required") String origin,
+            @NotBlank(message = "Destination is required") String destination) {
+
+        Objects.requireNonNull(origin, "Origin cannot be null");
+        Objects.requireNonNull(destination, "Destination cannot be null");
+
+        log.debug("Finding flight summaries from {} to {}", origin, destination);
+
+        return flightRepository.findRouteSummaries(origin, destination);
+    }
+
+    /**
+     * Finds passenger-free summaries of the flights within a specific departure time range.
+     * Windows inside the horizon of the {@link DepartureBoard} are answered from memory.
+     *
+     * @param start the start of the time range (inclusive)
+     * @param end the end of the time range (inclusive)
+     * @return summaries of the flights departing within the range, ordered by departure
+     * @throws IllegalArgumentException if parameters are invalid or start is after end
+     */
+    @Transactional(readOnly = true)
+    public List<FlightSummary> findFlightSummariesByDepartureRange(
+            @NotNull(message = "Start time is required") LocalDateTime start,
+            @NotNull(message = "End time is required") LocalDateTime end) {
+
+        Objects.requireNonNull(start, "Start time cannot be null");
+        Objects.requireNonNull(end, "End time cannot be null");
+
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Start time must be before or equal to end time");
+        }
+
+        log.debug("Finding flight summaries departing between {} and {}", start, end);
+
+        return departureBoard.find(start, end)
+                .orElseGet(() -> flightRepository.findDepartureSummaries(start, end));
+    }
+
+    /**
+     * Finds multi-leg connections between two airports from the in-memory route graph.
+     *
+     * @param origin the departure airport
+     * @param destination the final arrival airport
+     * @param departAfter the earliest departure of the first flight (inclusive)
+     * @param departBefore the latest departure of the first flight (inclusive)
+     * @param minLayover the minimum time between an arrival and the next departure
+     * @param maxLayover the maximum time between an arrival and the next departure
+     * @param maxLegs the maximum number of flights per connection
+     * @param limit the maximum number of itineraries to return
+     * @return itineraries ordered by arrival time
+     * @throws IllegalArgumentException if parameters are invalid
+     */
+    @Transactional(readOnly = true)
+    public List<Itinerary> findConnections(
+            @NotBlank(message = "Origin is required") String origin,
+            @NotBlank(message = "Destination is required") String destination,
+            @NotNull(message = "Departure window start is required") LocalDateTime departAfter,
+            @NotNull(message = "Departure window end is required") LocalDateTime departBefore,
+            @NotNull(message = "Minimum layover is required") Duration minLayover,
+            @NotNull(message = "Maximum layover is required") Duration maxLayover,
+            int maxLegs, int limit) {
+
+        Objects.requireNonNull(origin, "Origin cannot be null");
+        Objects.requireNonNull(destination, "Destination cannot be null");
+
+        log.debug("Finding connections from {} to {} with up to {} legs", origin, destination, maxLegs);
+
+        return routeGraph.findConnections(origin, destination, departAfter, departBefore,
+                minLayover, maxLayover, maxLegs, limit);
     }
 
     /**
      * Checks if a flight exists by flight number.
+     * Answered from the flight and existence caches when possible.
      * 
      * @param flightNumber the unique flight number to check
      * @return true if flight exists, false otherwise
@@ -170,7 +677,7 @@ public class FlightService {
         
         Objects.requireNonNull(flightNumber, "Flight number cannot be null");
         
-        return flightRepository.findByFlightNumber(flightNumber).isPresent();
+        return flightCache.exists(flightNumber, flightRepository::existsByFlightNumber);
     }
 
 }
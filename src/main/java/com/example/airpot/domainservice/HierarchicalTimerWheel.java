@@ -0,0 +1,184 @@
+package com.example.airpot.domainservice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hierarchical timing wheel for large numbers of timeouts that are mostly cancelled
+ * before they fire. Each level is a ring of {@code 2^bits} buckets; a bucket of level
+ * {@code n} spans {@code 2^(bits*n)} ticks. A timeout is filed in the lowest level whose
+ * range covers it and moves down one level each time the wheel reaches its bucket, so
+ * scheduling and cancelling are O(1) and advancing costs one bucket per tick.
+ * <p>
+ * Cancelled timeouts are only flagged and dropped when their bucket is reached.
+ * Thread-safe; callers advance the wheel from a single scheduler.
+ *
+ * @param <T> the payload handed back when a timeout expires
+ */
+final class HierarchicalTimerWheel<T> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final List<List<Timeout<T>>> buckets;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis the resolution of the wheel
+     * @param bits log2 of the number of buckets per level
+     * @param levels the number of levels
+     * @param startMillis the current time
+     */
+    HierarchicalTimerWheel(long tickMillis, int bits, int levels, long startMillis) {
+        if (tickMillis <= 0 || bits <= 0 || levels <= 0 || bits * levels >= 63) {
+            throw new IllegalArgumentException("Invalid timer wheel geometry");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        this.levels = levels;
+        this.buckets = new ArrayList<>(levels << bits);
+        for (int i = 0; i < levels << bits; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules a payload to expire at the given time.
+     *
+     * @param payload the payload
+     * @param deadlineMillis the expiry time in epoch milliseconds
+     * @return a handle to cancel the timeout
+     */
+    Timeout<T> schedule(T payload, long deadlineMillis) {
+        // round up, so a timeout never fires before its deadline
+        Timeout<T> timeout = new Timeout<>(payload, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        lock.lock();
+        try {
+            // the current bucket has already been processed, so the earliest slot is the next tick
+            place(timeout, currentTick + 1);
+            size++;
+        } finally {
+            lock.unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * Advances the wheel to the given time and returns every payload that expired on the way.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @return the expired payloads, in deadline order
+     */
+    List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            while (currentTick < targetTick) {
+                currentTick++;
+                if ((currentTick & mask) == 0) {
+                    cascade(1);
+                }
+                List<Timeout<T>> bucket = bucket(0, (int) (currentTick & mask));
+                if (bucket.isEmpty()) {
+                    continue;
+                }
+                List<Timeout<T>> due = new ArrayList<>(bucket);
+                bucket.clear();
+                for (Timeout<T> timeout : due) {
+                    if (timeout.cancelled) {
+                        size--;
+                    } else if (timeout.deadlineTick <= currentTick) {
+                        size--;
+                        expired.add(timeout.payload);
+                    } else {
+                        place(timeout, currentTick + 1);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return expired;
+    }
+
+    /**
+     * The number of scheduled timeouts, including cancelled ones not yet dropped.
+     */
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cascade(int level) {
+        if (level >= levels) {
+            return;
+        }
+        int index = (int) ((currentTick >>> (bits * level)) & mask);
+        if (index == 0) {
+            cascade(level + 1);
+        }
+        List<Timeout<T>> bucket = bucket(level, index);
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Timeout<T>> moved = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Timeout<T> timeout : moved) {
+            if (timeout.cancelled) {
+                size--;
+            } else {
+                // cascading runs before the current level-0 bucket is processed
+                place(timeout, currentTick);
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout, long earliestTick) {
+        long deadline = Math.max(timeout.deadlineTick, earliestTick);
+        for (int level = 0; level < levels; level++) {
+            int shift = bits * level;
+            if ((deadline >>> shift) - (currentTick >>> shift) <= mask) {
+                bucket(level, (int) ((deadline >>> shift) & mask)).add(timeout);
+                return;
+            }
+        }
+        // beyond the range of the wheel: park in the farthest top-level bucket and re-file on cascade
+        int shift = bits * (levels - 1);
+        bucket(levels - 1, (int) (((currentTick >>> shift) - 1) & mask)).add(timeout);
+    }
+
+    private List<Timeout<T>> bucket(int level, int index) {
+        return buckets.get((level << bits) + index);
+    }
+
+    /**
+     * A scheduled timeout.
+     */
+    static final class Timeout<T> {
+
+        private final T payload;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
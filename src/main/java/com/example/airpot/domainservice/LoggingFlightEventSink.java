@@ -0,0 +1,25 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.domain.FlightEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Stand-in subscriber that logs every Flight domain event, until real integrations
+ * (a message broker, other bounded contexts) subscribe.
+ *
+ */
+@Component
+@Slf4j
+public class LoggingFlightEventSink implements FlightEventSubscriber {
+
+    @Override
+    public void onEvents(List<FlightEvent> events) {
+        for (FlightEvent event : events) {
+            log.info("Flight event {} {} flight={} passenger={} seat={}", event.getId(), event.getType(),
+                    event.getFlightNumber(), event.getPassengerId(), event.getSeatNumber());
+        }
+    }
+}
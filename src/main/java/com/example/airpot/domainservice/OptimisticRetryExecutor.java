@@ -0,0 +1,76 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.config.FlightRetryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs Flight aggregate mutations with a bounded number of retries when they lose an
+ * optimistic locking race. Each retry waits a random ("full jitter") delay below an
+ * exponentially growing cap, so contending writers spread out instead of colliding again.
+ * Every conflict is counted in {@code flight.version.conflicts}, tagged with whether it was retried
+ * or exhausted the attempts; the flight number is only logged, as it is unbounded.
+ *
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticRetryExecutor {
+
+    static final String CONFLICT_COUNTER = "flight.version.conflicts";
+    static final String OUTCOME_TAG = "outcome";
+    static final String RETRIED = "retried";
+    static final String EXHAUSTED = "exhausted";
+
+    private final FlightRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Executes the operation, re-running it from scratch after an optimistic locking failure.
+     * The operation must reload the aggregate itself so every attempt works on fresh state.
+     *
+     * @param flightNumber the flight being modified, used in log messages
+     * @param operation the load/modify/save unit of work
+     * @param <T> the result type
+     * @return the result of the first successful attempt
+     * @throws OptimisticLockingFailureException if every attempt lost the race
+     */
+    public <T> T execute(String flightNumber, Supplier<T> operation) {
+        int attempt = 1;
+        while (true) {
+            try {
+                return operation.get();
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    meterRegistry.counter(CONFLICT_COUNTER, OUTCOME_TAG, EXHAUSTED).increment();
+                    log.warn("Giving up on flight {} after {} conflicting attempts", flightNumber, attempt);
+                    throw ex;
+                }
+                meterRegistry.counter(CONFLICT_COUNTER, OUTCOME_TAG, RETRIED).increment();
+                log.debug("Version conflict on flight {} (attempt {}), retrying", flightNumber, attempt);
+                backoff(attempt, ex);
+                attempt++;
+            }
+        }
+    }
+
+    private void backoff(int attempt, OptimisticLockingFailureException cause) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long cap = Math.min(properties.getMaxBackoff().toMillis(), initial << Math.min(attempt - 1, 20));
+        if (cap <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.domain.Passenger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index of passenger names for autocomplete and check-in lookups.
+ * Names are normalized (case folded, accents and repeated whitespace removed) and kept
+ * in a sorted set of "normalized name, passenger id" entries, so a prefix search is one
+ * range walk that stops at the result limit.
+ * <p>
+ * The index is loaded once the application is ready and then maintained incrementally
+ * from the mapping events of passenger saves and deletes. The same normalized name is
+ * written to each passenger document as {@code nameKey}, which backs the MongoDB fallback.
+ * <p>
+ * A delete by criteria other than ids leaves the affected passengers unknown: the index is then
+ * marked stale, searches fall back to MongoDB, and it is rebuilt in the background. Deletes by
+ * collection name publish no passenger events, so their callers {@link #evict} the ids themselves.
+ *
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PassengerNameIndex extends AbstractMongoEventListener<Passenger> {
+
+    static final String NAME_KEY = "nameKey";
+
+    private static final char SEPARATOR = '\u0000';
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int BACKFILL_BATCH = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final NavigableSet<String> entries = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<String, String> keysById = new ConcurrentHashMap<>();
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private volatile boolean ready;
+
+    /**
+     * Normalizes a name or prefix for case- and accent-insensitive matching.
+     *
+     * @param name the name as entered
+     * @return the normalized name, empty for a blank name
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        String folded = MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(folded).replaceAll(" ").trim();
+    }
+
+    /**
+     * Upper bound (exclusive) of the normalized names starting with a normalized prefix.
+     */
+    public static String upperBound(String key) {
+        return key + Character.MAX_VALUE;
+    }
+
+    /**
+     * Loads all passenger names, writing the missing nameKey of passengers stored before it existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        Query query = new Query();
+        query.fields().include("name", NAME_KEY);
+        String collection = mongoTemplate.getCollectionName(Passenger.class);
+        List<Document> backfill = new ArrayList<>();
+        int backfilled = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collection)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                String id = idOf(document.get("_id"));
+                String key = normalize(document.getString("name"));
+                put(id, key);
+                if (!key.equals(document.getString(NAME_KEY))) {
+                    backfill.add(new Document("_id", document.get("_id")).append(NAME_KEY, key));
+                    if (backfill.size() == BACKFILL_BATCH) {
+                        backfilled += writeNameKeys(collection, backfill);
+                    }
+                }
+            }
+        }
+        backfilled += writeNameKeys(collection, backfill);
+        // a delete by criteria during the load is applied by the next rebuild
+        ready = !stale.get();
+        log.info("Passenger name index loaded with {} passengers ({} name keys backfilled)", keysById.size(), backfilled);
+    }
+
+    private int writeNameKeys(String collection, List<Document> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        for (Document document : pending) {
+            bulk.updateOne(new Query(Criteria.where("_id").is(document.get("_id"))),
+                    Update.update(NAME_KEY, document.getString(NAME_KEY)));
+        }
+        int written = pending.size();
+        bulk.execute();
+        pending.clear();
+        return written;
+    }
+
+    /**
+     * Reloads the index after a delete it could not apply incrementally.
+     */
+    @Scheduled(fixedDelayString = "${airpot.passenger-search.rebuild-check-interval:PT1S}")
+    public synchronized void rebuildIfStale() {
+        if (!stale.compareAndSet(true, false)) {
+            return;
+        }
+        ready = false;
+        entries.clear();
+        keysById.clear();
+        load();
+    }
+
+    /**
+     * Removes passengers deleted without a mapping event, e.g. through
+     * {@code MongoTemplate.remove(query, collectionName)}.
+     *
+     * @param ids the ids of the deleted passengers
+     */
+    public void evict(Collection<?> ids) {
+        ids.forEach(id -> remove(idOf(id)));
+    }
+
+    /**
+     * Whether the initial load has completed and searches can be answered from memory.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the ids of passengers whose normalized name starts with the normalized prefix,
+     * ordered by normalized name.
+     *
+     * @param key the normalized prefix
+     * @param limit the maximum number of ids
+     * @return the passenger ids
+     */
+    public List<String> search(String key, int limit) {
+        List<String> ids = new ArrayList<>(Math.min(limit, 64));
+        for (String entry : entries.subSet(key, true, upperBound(key), false)) {
+            ids.add(entry.substring(entry.lastIndexOf(SEPARATOR) + 1));
+            if (ids.size() == limit) {
+                break;
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<Passenger> event) {
+        Document document = event.getDocument();
+        if (document != null) {
+            document.put(NAME_KEY, normalize(event.getSource().getName()));
+        }
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Passenger> event) {
+        Passenger passenger = event.getSource();
+        if (passenger.getId() != null) {
+            put(passenger.getId(), normalize(passenger.getName()));
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Passenger> event) {
+        Object id = event.getSource().get("_id");
+        if (id instanceof Document operator && operator.get("$in") instanceof Collection<?> ids) {
+            evict(ids);
+        } else if (id != null && !(id instanceof Document)) {
+            remove(idOf(id));
+        } else {
+            // deleted by another criteria: the affected ids are unknown, so rebuild off this thread
+            ready = false;
+            stale.set(true);
+            log.debug("Passenger name index marked stale by a delete of {}", event.getSource());
+        }
+    }
+
+    private void put(String id, String key) {
+        keysById.compute(id, (k, previous) -> {
+            if (previous != null) {
+                entries.remove(previous + SEPARATOR + id);
+            }
+            entries.add(key + SEPARATOR + id);
+            return key;
+        });
+    }
+
+    private void remove(String id) {
+        keysById.computeIfPresent(id, (k, previous) -> {
+            entries.remove(previous + SEPARATOR + id);
+            return null;
+        });
+    }
+
+    private static String idOf(Object id) {
+        return id instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(id);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.repository.PassengerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Replaces the seat references embedded in flights with the passenger documents they refer to,
+ * with one query per batch of flights. Fully embedded passengers are left as they are, so
+ * flights of both storage layouts, and flights half-way through a migration, read the same.
+ *
+ */
+@Component
+@RequiredArgsConstructor
+public class PassengerResolver {
+
+    static final int BATCH_SIZE = 100;
+
+    private final PassengerRepository passengerRepository;
+
+    public Flight resolve(Flight flight) {
+        resolve(List.of(flight));
+        return flight;
+    }
+
+    /**
+     * Resolves the seat reference of one passenger only, for changes that touch that passenger,
+     * so the events they register carry the passenger details in both storage layouts.
+     *
+     * @param flight      the flight as loaded
+     * @param passengerId the passenger to resolve
+     * @return the same flight
+     */
+    public Flight resolve(Flight flight, String passengerId) {
+        if (referencesPassenger(flight, passengerId)) {
+            passengerRepository.findById(passengerId)
+                    .ifPresent(passenger -> merge(flight, Map.of(passengerId, passenger)));
+        }
+        return flight;
+    }
+
+    /**
+     * Resolves the seat references of the given flights in place.
+     *
+     * @param flights the flights as loaded
+     * @return the same flights
+     */
+    public List<Flight> resolve(List<Flight> flights) {
+        Set<String> ids = referencedIds(flights);
+        if (!ids.isEmpty()) {
+            Map<String, Passenger> passengers = passengerRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Passenger::getId, Function.identity()));
+            flights.forEach(flight -> merge(flight, passengers));
+        }
+        return flights;
+    }
+
+    /**
+     * Resolves the seat references of a lazily fetched stream of flights, in batches of
+     * {@value #BATCH_SIZE} flights. Closing the returned stream closes the source.
+     *
+     * @param flights the flights as loaded
+     * @return the resolved flights
+     */
+    public Stream<Flight> resolve(Stream<Flight> flights) {
+        Iterator<Flight> source = flights.iterator();
+        Iterator<Flight> resolved = new Iterator<>() {
+            private Iterator<Flight> batch = List.<Flight>of().iterator();
+
+            @Override
+            public boolean hasNext() {
+                if (!batch.hasNext() && source.hasNext()) {
+                    List<Flight> next = new ArrayList<>(BATCH_SIZE);
+                    while (next.size() < BATCH_SIZE && source.hasNext()) {
+                        next.add(source.next());
+                    }
+                    batch = resolve(next).iterator();
+                }
+                return batch.hasNext();
+            }
+
+            @Override
+            public Flight next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return batch.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(resolved, Spliterator.ORDERED), false)
+                .onClose(flights::close);
+    }
+
+    /**
+     * A seat reference carries the passenger id and seat number only.
+     */
+    static boolean isSeatReference(Passenger passenger) {
+        return passenger.getName() == null && passenger.getId() != null;
+    }
+
+    static boolean referencesPassenger(Flight flight, String passengerId) {
+        for (Passenger passenger : flight.getPassengers()) {
+            if (isSeatReference(passenger) && passenger.getId().equals(passengerId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Set<String> referencedIds(Collection<Flight> flights) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (Flight flight : flights) {
+            for (Passenger passenger : flight.getPassengers()) {
+                if (isSeatReference(passenger)) {
+                    ids.add(passenger.getId());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Replaces the seat references of a flight with the given passengers. References without
+     * a passenger document are kept, so the seat stays taken.
+     */
+    static void merge(Flight flight, Map<String, Passenger> passengers) {
+        List<Passenger> merged = new ArrayList<>(flight.getPassengers().size());
+        for (Passenger passenger : flight.getPassengers()) {
+            merged.add(isSeatReference(passenger) ? passengers.getOrDefault(passenger.getId(), passenger) : passenger);
+        }
+        flight.setPassengers(merged);
+    }
+}
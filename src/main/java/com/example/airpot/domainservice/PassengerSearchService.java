@@ -0,0 +1,65 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.config.PassengerSearchProperties;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.repository.PassengerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Case- and accent-insensitive prefix search over passenger names.
+ * Answered from the in-memory {@link PassengerNameIndex} when it is enabled and loaded,
+ * otherwise by a range scan of the indexed nameKey field in MongoDB.
+ *
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PassengerSearchService {
+
+    private final PassengerRepository passengerRepository;
+    private final PassengerNameIndex nameIndex;
+    private final PassengerSearchProperties properties;
+
+    /**
+     * Finds passengers whose name starts with the given prefix.
+     *
+     * @param prefix the beginning of the name, in any case and with or without accents
+     * @param limit the maximum number of passengers, capped at the configured maximum
+     * @return the matching passengers ordered by normalized name
+     * @throws IllegalArgumentException if the prefix is blank or the limit is not positive
+     */
+    public List<Passenger> searchByName(String prefix, int limit) {
+        String key = PassengerNameIndex.normalize(prefix);
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("Search prefix is required");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        int cappedLimit = Math.min(limit, properties.getMaxResults());
+
+        if (!properties.isInMemoryIndex() || !nameIndex.isReady()) {
+            log.debug("Searching passengers by name prefix '{}' in MongoDB", key);
+            return passengerRepository.findByNameKeyRange(key, PassengerNameIndex.upperBound(key), Limit.of(cappedLimit));
+        }
+
+        List<String> ids = nameIndex.search(key, cappedLimit);
+        Map<String, Passenger> byId = passengerRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Passenger::getId, Function.identity()));
+        // re-check the loaded documents: a rename or delete may not have reached the index yet
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .filter(passenger -> PassengerNameIndex.normalize(passenger.getName()).startsWith(key))
+                .toList();
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.cache.FlightCache;
+import com.example.airpot.config.FlightRetryProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.FlightEvent;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domainservice.FlightMetrics.SeatConflictReason;
+import com.example.airpot.domainservice.FlightMetrics.SeatOperation;
+import com.example.airpot.dto.FlightSummary;
+import com.example.airpot.dto.Itinerary;
+import com.example.airpot.repository.reactive.ReactiveFlightRepository;
+import com.example.airpot.repository.reactive.ReactivePassengerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking counterpart of {@link FlightService} for the reactive profile.
+ * Applies the same rules on top of the reactive repositories: atomic conditional seat
+ * booking, optimistic locking with jittered retries for removals, and invalidation of the
+ * shared flight cache and route graph. Searches are emitted as the MongoDB cursor is read,
+ * so a slow consumer throttles the query instead of buffering the whole result.
+ *
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveFlightService {
+
+    private final ReactiveFlightRepository flightRepository;
+    private final ReactivePassengerRepository passengerRepository;
+    private final FlightCache flightCache;
+    private final RouteGraph routeGraph;
+    private final FlightMetrics flightMetrics;
+    private final DepartureBoard departureBoard;
+    private final FlightRetryProperties retryProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates a new flight.
+     *
+     * @param flight the flight to create
+     * @return the persisted flight, or an IllegalArgumentException if the flight number is taken
+     */
+    public Mono<Flight> createFlight(Flight flight) {
+        Objects.requireNonNull(flight, "Flight cannot be null");
+
+        flight.registerEvent(FlightEvent.flightCreated(flight));
+        // the unique flightNumber index decides between concurrent creations
+        return flightRepository.save(flight)
+                .onErrorMap(DuplicateKeyException.class, ex -> new IllegalArgumentException("Flight Already exists"))
+                .doOnNext(saved -> {
+                    flightCache.add(saved.getFlightNumber());
+                    routeGraph.add(saved);
+                    departureBoard.add(saved);
+                    log.info("Successfully created flight {}", saved.getFlightNumber());
+                });
+    }
+
+    /**
+     * Deletes a flight and its passenger records by its flight number and records a FLIGHT_DELETED event,
+     * retrying on a fresh copy of the flight when it changed meanwhile.
+     *
+     * @param flightNumber the unique flight number
+     * @return true if the flight was deleted, false if it did not exist
+     */
+    public Mono<Boolean> deleteFlight(String flightNumber) {
+        Objects.requireNonNull(flightNumber, "Flight number cannot be null");
+
+        return flightRepository.findByFlightNumber(flightNumber)
+                .flatMap(flight -> flightRepository.deleteRecordingEvent(flight).thenReturn(flight))
+                .retryWhen(versionConflictRetry(flightNumber))
+                // the flight is gone, so nothing refers to its passenger records any more
+                .flatMap(flight -> passengerRepository.deleteAllById(flight.getPassengers().stream()
+                        .map(Passenger::getId).filter(Objects::nonNull).toList()).thenReturn(true))
+                .defaultIfEmpty(false)
+                .doOnNext(removed -> {
+                    flightCache.remove(flightNumber);
+                    routeGraph.remove(flightNumber);
+                    departureBoard.remove(flightNumber);
+                });
+    }
+
+    /**
+     * Adds a passenger to a specific flight with one conditional update, as
+     * {@link FlightService#addPassengerToFlight(String, Passenger)} does.
+     *
+     * @param flightNumber the unique flight number
+     * @param passenger the passenger to add with seat assignment
+     * @return completes when booked, or errors with an IllegalArgumentException if the
+     *         flight is not found or the seat is taken or on hold
+     */
+    public Mono<Void> addPassengerToFlight(String flightNumber, Passenger passenger) {
+        Objects.requireNonNull(flightNumber, "Flight number cannot be null");
+        Objects.requireNonNull(passenger, "Passenger cannot be null");
+
+        return passengerRepository.save(passenger)
+                .flatMap(saved -> flightRepository.addPassengerIfSeatAvailable(flightNumber, saved)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty()))
+                .doOnNext(version -> flightCache.evict(flightNumber))
+                .flatMap(version -> version.isPresent()
+                        ? Mono.<Void>fromRunnable(() -> departureBoard.passengersChanged(flightNumber, 1, version.get()))
+                        : rejectBooking(flightNumber, passenger))
+                .doOnSuccess(done -> log.info("Successfully added passenger {} to flight {}", passenger.getName(), flightNumber));
+    }
+
+    private Mono<Void> rejectBooking(String flightNumber, Passenger passenger) {
+        // nothing matched: undo the passenger record and work out which predicate failed
+        return passengerRepository.delete(passenger)
+                .then(flightRepository.existsByFlightNumber(flightNumber))
+                .flatMap(exists -> {
+                    if (!exists) {
+                        return Mono.error(flightNotFound(flightNumber));
+                    }
+                    String seatNumber = passenger.getSeatAssignment().getSeatNumber();
+                    return flightRepository.isSeatHeld(flightNumber, seatNumber)
+                            .flatMap(held -> {
+                                flightMetrics.seatConflict(SeatOperation.SINGLE,
+                                        held ? SeatConflictReason.HELD : SeatConflictReason.ASSIGNED);
+                                return Mono.<Void>error(new IllegalArgumentException(
+                                        "Seat " + seatNumber + (held ? " is on hold" : " is already assigned")));
+                            });
+                });
+    }
+
+    /**
+     * Removes a passenger from a specific flight, retrying on a fresh copy of the flight
+     * when the optimistic locking save loses a race.
+     *
+     * @param flightNumber the unique flight number
+     * @param passengerId the unique passenger identifier
+     * @return true if passenger was removed, false if not found
+     */
+    public Mono<Boolean> removePassengerFromFlight(String flightNumber, String passengerId) {
+        Objects.requireNonNull(flightNumber, "Flight number cannot be null");
+        Objects.requireNonNull(passengerId, "Passenger ID cannot be null");
+
+        return Mono.defer(() -> flightRepository.findByFlightNumber(flightNumber))
+                .switchIfEmpty(Mono.error(() -> flightNotFound(flightNumber)))
+                .flatMap(flight -> resolvePassenger(flight, passengerId))
+                .flatMap(flight -> flight.removePassenger(passengerId)
+                        ? flightRepository.save(flight).map(saved -> Optional.of(saved.getVersion()))
+                        : Mono.just(Optional.<Long>empty()))
+                .retryWhen(versionConflictRetry(flightNumber))
+                .flatMap(version -> version.isPresent()
+                        ? passengerRepository.deleteById(passengerId).thenReturn(version)
+                        : Mono.just(version))
+                .map(version -> {
+                    boolean removed = version.isPresent();
+                    if (removed) {
+                        flightCache.evict(flightNumber);
+                        departureBoard.passengersChanged(flightNumber, -1, version.get());
+                        log.info("Successfully removed passenger {} from flight {}", passengerId, flightNumber);
+                    } else {
+                        flightMetrics.passengerNotFound();
+                        log.warn("Passenger {} not found on flight {}", passengerId, flightNumber);
+                    }
+                    return removed;
+                });
+    }
+
+    /**
+     * Same policy as {@link OptimisticRetryExecutor}: bounded attempts, full-jitter
+     * exponential backoff, every conflict counted by outcome.
+     */
+    private Retry versionConflictRetry(String flightNumber) {
+        return Retry.backoff(retryProperties.getMaxAttempts() - 1L, retryProperties.getInitialBackoff())
+                .maxBackoff(retryProperties.getMaxBackoff())
+                .jitter(1.0)
+                .filter(OptimisticLockingFailureException.class::isInstance)
+                .doBeforeRetry(signal -> {
+                    meterRegistry.counter(OptimisticRetryExecutor.CONFLICT_COUNTER,
+                            OptimisticRetryExecutor.OUTCOME_TAG, OptimisticRetryExecutor.RETRIED).increment();
+                    log.debug("Version conflict on flight {} (attempt {}), retrying", flightNumber, signal.totalRetries() + 1);
+                })
+                .onRetryExhaustedThrow((spec, signal) -> {
+                    meterRegistry.counter(OptimisticRetryExecutor.CONFLICT_COUNTER,
+                            OptimisticRetryExecutor.OUTCOME_TAG, OptimisticRetryExecutor.EXHAUSTED).increment();
+                    log.warn("Giving up on flight {} after {} conflicting attempts", flightNumber, signal.totalRetries() + 1);
+                    return signal.failure();
+                });
+    }
+
+    /**
+     * Retrieves a flight with all its passengers.
+     *
+     * @param flightNumber the unique flight number
+     * @return the flight, or an IllegalArgumentException if it does not exist
+     */
+    public Mono<Flight> getFlightWithPassengers(String flightNumber) {
+        Objects.requireNonNull(flightNumber, "Flight number cannot be null");
+
+        return resolvePassengers(flightRepository.findByFlightNumber(flightNumber).flux())
+                .next()
+                .switchIfEmpty(Mono.error(() -> flightNotFound(flightNumber)));
+    }
+
+    /**
+     * Emits all flights ordered by scheduled departure and id.
+     */
+    public Flux<Flight> findAllFlights() {
+        return resolvePassengers(flightRepository.findAllOrderedByDeparture());
+    }
+
+    public Flux<Flight> findFlightsByRoute(String origin, String destination) {
+        Objects.requireNonNull(origin, "Origin cannot be null");
+        Objects.requireNonNull(destination, "Destination cannot be null");
+
+        return resolvePassengers(flightRepository.findByRoute(origin, destination));
+    }
+
+    public Flux<Flight> findFlightsByDepartureRange(LocalDateTime start, LocalDateTime end) {
+        validateRange(start, end);
+        return resolvePassengers(flightRepository.findFlightsByDepartureTimeRange(start, end));
+    }
+
+    public Flux<FlightSummary> findFlightSummariesByRoute(String origin, String destination) {
+        Objects.requireNonNull(origin, "Origin cannot be null");
+        Objects.requireNonNull(destination, "Destination cannot be null");
+
+        return flightRepository.findRouteSummaries(origin, destination);
+    }
+
+    public Flux<FlightSummary> findFlightSummariesByDepartureRange(LocalDateTime start, LocalDateTime end) {
+        validateRange(start, end);
+        return departureBoard.find(start, end)
+                .map(Flux::fromIterable)
+                .orElseGet(() -> flightRepository.findDepartureSummaries(start, end));
+    }
+
+    /**
+     * Finds connections in the in-memory route graph shared with {@link FlightService}.
+     * The search is CPU-bound and bounded by the limit, so it runs on the calling thread.
+     */
+    public Flux<Itinerary> findConnections(String origin, String destination,
+                                           LocalDateTime departAfter, LocalDateTime departBefore,
+                                           Duration minLayover, Duration maxLayover, int maxLegs, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(routeGraph.findConnections(origin, destination,
+                departAfter, departBefore, minLayover, maxLayover, maxLegs, limit)));
+    }
+
+    /**
+     * Reactive counterpart of {@link PassengerResolver}: resolves seat references with one
+     * passenger query per batch of flights, keeping the order of the source.
+     */
+    private Flux<Flight> resolvePassengers(Flux<Flight> flights) {
+        return flights
+                .buffer(PassengerResolver.BATCH_SIZE)
+                .concatMap(batch -> {
+                    Set<String> ids = PassengerResolver.referencedIds(batch);
+                    if (ids.isEmpty()) {
+                        return Flux.fromIterable(batch);
+                    }
+                    return passengerRepository.findAllById(ids)
+                            .collect(Collectors.toMap(Passenger::getId, Function.identity()))
+                            .flatMapIterable(passengers -> {
+                                batch.forEach(flight -> PassengerResolver.merge(flight, passengers));
+                                return batch;
+                            });
+                });
+    }
+
+    /**
+     * Reactive counterpart of {@link PassengerResolver#resolve(Flight, String)}.
+     */
+    private Mono<Flight> resolvePassenger(Flight flight, String passengerId) {
+        if (!PassengerResolver.referencesPassenger(flight, passengerId)) {
+            return Mono.just(flight);
+        }
+        return passengerRepository.findById(passengerId)
+                .doOnNext(passenger -> PassengerResolver.merge(flight, Map.of(passengerId, passenger)))
+                .thenReturn(flight);
+    }
+
+    private static void validateRange(LocalDateTime start, LocalDateTime end) {
+        Objects.requireNonNull(start, "Start time cannot be null");
+        Objects.requireNonNull(end, "End time cannot be null");
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Start time must be before or equal to end time");
+        }
+    }
+
+    private IllegalArgumentException flightNotFound(String flightNumber) {
+        flightMetrics.flightNotFound();
+        return new IllegalArgumentException("Flight not found: " + flightNumber);
+    }
+}
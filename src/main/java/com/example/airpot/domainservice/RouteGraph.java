@@ -0,0 +1,374 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.config.RouteGraphProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.dto.Itinerary;
+import com.example.airpot.repository.FlightRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory, time-dependent route graph of the flight schedule used for connection search.
+ * Every airport has its outgoing flights in an array sorted by scheduled departure, and every
+ * (origin, destination) pair has the same for its direct flights. The earliest flight that can
+ * be taken after a layover is found by binary search, and the last leg of a connection is looked
+ * up directly by route instead of fanning out over all departures.
+ * <p>
+ * Readers never lock: arrays are copy-on-write and replaced as a whole. Writers (incremental
+ * updates and the periodic full rebuild that picks up flights written by other instances) are
+ * serialized by a lock.
+ *
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RouteGraph {
+
+    private static final Edge[] NO_EDGES = new Edge[0];
+    private static final Comparator<Edge> BY_DEPARTURE = Comparator.comparingLong(Edge::departure);
+    private static final Comparator<Edge[]> BY_ARRIVAL_THEN_LEGS = Comparator
+            .<Edge[]>comparingLong(path -> path[path.length - 1].arrival())
+            .thenComparingInt(path -> path.length);
+
+    private final FlightRepository flightRepository;
+    private final RouteGraphProperties properties;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Graph graph = new Graph(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+
+    /**
+     * Rebuilds the whole graph from the schedules stored in the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${airpot.route-graph.refresh-interval:PT10M}",
+            fixedDelayString = "${airpot.route-graph.refresh-interval:PT10M}")
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            Map<String, List<Edge>> byOrigin = new HashMap<>();
+            Map<String, List<Edge>> byRoute = new HashMap<>();
+            Map<String, Edge> byFlightNumber = new ConcurrentHashMap<>();
+            try (Stream<Flight> schedules = flightRepository.streamSchedules()) {
+                schedules.map(Edge::of).filter(Objects::nonNull).forEach(edge -> {
+                    byOrigin.computeIfAbsent(edge.origin(), k -> new ArrayList<>()).add(edge);
+                    byRoute.computeIfAbsent(routeKey(edge.origin(), edge.destination()), k -> new ArrayList<>()).add(edge);
+                    byFlightNumber.put(edge.flightNumber(), edge);
+                });
+            }
+            graph = new Graph(sorted(byOrigin), sorted(byRoute), byFlightNumber);
+            log.info("Route graph rebuilt with {} flights from {} airports", byFlightNumber.size(), byOrigin.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the schedule of a flight.
+     *
+     * @param flight the created or rescheduled flight
+     */
+    public void add(Flight flight) {
+        Edge edge = Edge.of(flight);
+        if (edge == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Graph current = graph;
+            Edge previous = current.byFlightNumber().put(edge.flightNumber(), edge);
+            if (previous != null) {
+                unlink(current, previous);
+            }
+            current.byOrigin().compute(edge.origin(), (k, edges) -> insert(edges, edge));
+            current.byRoute().compute(routeKey(edge.origin(), edge.destination()), (k, edges) -> insert(edges, edge));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a flight from the graph.
+     *
+     * @param flightNumber the unique flight number of the deleted flight
+     */
+    public void remove(String flightNumber) {
+        writeLock.lock();
+        try {
+            Graph current = graph;
+            Edge previous = current.byFlightNumber().remove(flightNumber);
+            if (previous != null) {
+                unlink(current, previous);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Finds connections from an origin to a destination whose first flight departs within a window.
+     * Consecutive flights must leave between the minimum and maximum layover after the previous
+     * arrival, and no airport is visited twice. Returns the earliest-arriving itineraries, ordered by
+     * arrival, then by number of legs.
+     *
+     * @param origin the departure airport
+     * @param destination the final arrival airport
+     * @param departAfter the earliest departure of the first flight (inclusive)
+     * @param departBefore the latest departure of the first flight (inclusive)
+     * @param minLayover the minimum time between an arrival and the next departure
+     * @param maxLayover the maximum time between an arrival and the next departure
+     * @param maxLegs the maximum number of flights of a connection
+     * @param limit the maximum number of itineraries to return
+     * @return the matching itineraries
+     * @throws IllegalArgumentException if the search parameters are inconsistent or exceed the configured limits
+     */
+    public List<Itinerary> findConnections(String origin, String destination,
+                                           LocalDateTime departAfter, LocalDateTime departBefore,
+                                           Duration minLayover, Duration maxLayover,
+                                           int maxLegs, int limit) {
+        if (origin.equals(destination)) {
+            throw new IllegalArgumentException("Origin and destination must differ");
+        }
+        if (departAfter.isAfter(departBefore)) {
+            throw new IllegalArgumentException("Departure window start must be before or equal to its end");
+        }
+        if (minLayover.isNegative() || minLayover.compareTo(maxLayover) > 0) {
+            throw new IllegalArgumentException("Minimum layover must be non-negative and not exceed the maximum layover");
+        }
+        if (maxLegs < 1 || maxLegs > properties.getMaxLegs()) {
+            throw new IllegalArgumentException("Max legs must be between 1 and " + properties.getMaxLegs());
+        }
+        if (limit < 1 || limit > properties.getMaxResults()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + properties.getMaxResults());
+        }
+
+        Search search = new Search(graph, destination, minLayover.toMillis(), maxLayover.toMillis(), maxLegs, limit);
+        Edge[] firstLegs = maxLegs == 1 ? search.direct(origin) : search.departures(origin);
+        long from = toMillis(departAfter);
+        long to = toMillis(departBefore);
+        for (int i = lowerBound(firstLegs, from); i < firstLegs.length && firstLegs[i].departure() <= to; i++) {
+            if (firstLegs[i].departure() > search.arrivalBound()) {
+                break;
+            }
+            search.path[0] = firstLegs[i];
+            search.extend(1);
+        }
+
+        return search.results.stream()
+                .sorted(BY_ARRIVAL_THEN_LEGS)
+                .map(RouteGraph::toItinerary)
+                .toList();
+    }
+
+    private static void unlink(Graph graph, Edge edge) {
+        graph.byOrigin().computeIfPresent(edge.origin(), (k, edges) -> without(edges, edge));
+        graph.byRoute().computeIfPresent(routeKey(edge.origin(), edge.destination()), (k, edges) -> without(edges, edge));
+    }
+
+    private static Edge[] insert(Edge[] edges, Edge edge) {
+        if (edges == null) {
+            return new Edge[]{edge};
+        }
+        int index = lowerBound(edges, edge.departure());
+        Edge[] copy = new Edge[edges.length + 1];
+        System.arraycopy(edges, 0, copy, 0, index);
+        copy[index] = edge;
+        System.arraycopy(edges, index, copy, index + 1, edges.length - index);
+        return copy;
+    }
+
+    private static Edge[] without(Edge[] edges, Edge edge) {
+        for (int i = lowerBound(edges, edge.departure()); i < edges.length && edges[i].departure() == edge.departure(); i++) {
+            if (edges[i].flightNumber().equals(edge.flightNumber())) {
+                if (edges.length == 1) {
+                    return null;
+                }
+                Edge[] copy = new Edge[edges.length - 1];
+                System.arraycopy(edges, 0, copy, 0, i);
+                System.arraycopy(edges, i + 1, copy, i, edges.length - i - 1);
+                return copy;
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Index of the first edge departing at or after the given time.
+     */
+    private static int lowerBound(Edge[] edges, long departure) {
+        int low = 0;
+        int high = edges.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (edges[mid].departure() < departure) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Map<String, Edge[]> sorted(Map<String, List<Edge>> edgesByKey) {
+        Map<String, Edge[]> result = new ConcurrentHashMap<>(Math.max(16, edgesByKey.size() * 2));
+        edgesByKey.forEach((key, edges) -> {
+            Edge[] array = edges.toArray(NO_EDGES);
+            Arrays.sort(array, BY_DEPARTURE);
+            result.put(key, array);
+        });
+        return result;
+    }
+
+    private static String routeKey(String origin, String destination) {
+        return origin + '\n' + destination;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static Itinerary toItinerary(Edge[] path) {
+        List<Itinerary.Leg> legs = new ArrayList<>(path.length);
+        for (Edge edge : path) {
+            legs.add(new Itinerary.Leg(edge.flightNumber(), edge.origin(), edge.destination(),
+                    edge.scheduledDeparture(), edge.scheduledArrival()));
+        }
+        Edge first = path[0];
+        Edge last = path[path.length - 1];
+        return Itinerary.builder()
+                .legs(legs)
+                .departure(first.scheduledDeparture())
+                .arrival(last.scheduledArrival())
+                .totalMinutes(Duration.ofMillis(last.arrival() - first.departure()).toMinutes())
+                .build();
+    }
+
+    /**
+     * Depth-first expansion of partial connections, reusing one path buffer.
+     * Only the best {@code limit} itineraries are kept in a bounded heap. Since arrival times only
+     * grow along a path, a partial connection (or a candidate departure) later than the worst kept
+     * arrival cannot improve the result and is pruned.
+     */
+    private static final class Search {
+
+        private final Graph graph;
+        private final String destination;
+        private final long minLayover;
+        private final long maxLayover;
+        private final int maxLegs;
+        private final int limit;
+        private final Edge[] path;
+        private final PriorityQueue<Edge[]> results;
+
+        private Search(Graph graph, String destination, long minLayover, long maxLayover, int maxLegs, int limit) {
+            this.graph = graph;
+            this.destination = destination;
+            this.minLayover = minLayover;
+            this.maxLayover = maxLayover;
+            this.maxLegs = maxLegs;
+            this.limit = limit;
+            this.path = new Edge[maxLegs];
+            this.results = new PriorityQueue<>(limit + 1, BY_ARRIVAL_THEN_LEGS.reversed());
+        }
+
+        private Edge[] departures(String airport) {
+            return graph.byOrigin().getOrDefault(airport, NO_EDGES);
+        }
+
+        private Edge[] direct(String airport) {
+            return graph.byRoute().getOrDefault(routeKey(airport, destination), NO_EDGES);
+        }
+
+        /**
+         * Latest arrival that can still make it into the results.
+         */
+        private long arrivalBound() {
+            return results.size() < limit ? Long.MAX_VALUE : results.peek()[results.peek().length - 1].arrival();
+        }
+
+        private void extend(int depth) {
+            Edge last = path[depth - 1];
+            if (last.arrival() > arrivalBound()) {
+                return;
+            }
+            if (last.destination().equals(destination)) {
+                offer(depth);
+                return;
+            }
+            if (depth == maxLegs) {
+                return;
+            }
+            // the final leg must land at the destination, so only direct flights qualify
+            Edge[] candidates = depth == maxLegs - 1 ? direct(last.destination()) : departures(last.destination());
+            long from = last.arrival() + minLayover;
+            long to = Math.min(last.arrival() + maxLayover, arrivalBound());
+            for (int i = lowerBound(candidates, from); i < candidates.length && candidates[i].departure() <= to; i++) {
+                Edge next = candidates[i];
+                if (!visited(next.destination(), depth)) {
+                    path[depth] = next;
+                    extend(depth + 1);
+                    to = Math.min(to, arrivalBound());
+                }
+            }
+        }
+
+        private void offer(int depth) {
+            Edge[] itinerary = Arrays.copyOf(path, depth);
+            results.offer(itinerary);
+            if (results.size() > limit) {
+                results.poll();
+            }
+        }
+
+        private boolean visited(String airport, int depth) {
+            if (path[0].origin().equals(airport)) {
+                return true;
+            }
+            for (int i = 0; i < depth; i++) {
+                if (path[i].destination().equals(airport)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Graph(Map<String, Edge[]> byOrigin, Map<String, Edge[]> byRoute, Map<String, Edge> byFlightNumber) {
+    }
+
+    /**
+     * A scheduled flight as an edge of the graph, with times pre-converted to epoch milliseconds.
+     */
+    private record Edge(String flightNumber, String origin, String destination,
+                        LocalDateTime scheduledDeparture, LocalDateTime scheduledArrival,
+                        long departure, long arrival) {
+
+        private static Edge of(Flight flight) {
+            if (flight.getFlightNumber() == null || flight.getOrigin() == null || flight.getDestination() == null
+                    || flight.getScheduledDeparture() == null || flight.getScheduledArrival() == null) {
+                return null;
+            }
+            return new Edge(flight.getFlightNumber(), flight.getOrigin(), flight.getDestination(),
+                    flight.getScheduledDeparture(), flight.getScheduledArrival(),
+                    toMillis(flight.getScheduledDeparture()), toMillis(flight.getScheduledArrival()));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.config.SeatHoldProperties;
+import com.example.airpot.domain.SeatHold;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process registry of the active seat holds, indexed by hold id and by flight and seat,
+ * with their expiry scheduled on a {@link HierarchicalTimerWheel}. It drives the release of
+ * the holds taken through this instance; which seats are held is decided by the flight
+ * documents, and the {@code seat_holds} collection is the durable copy it is reloaded from.
+ *
+ */
+@Component
+public class SeatHoldRegistry {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final Map<String, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Entry>> byFlight = new ConcurrentHashMap<>();
+    private final HierarchicalTimerWheel<Entry> wheel;
+
+    public SeatHoldRegistry(SeatHoldProperties properties) {
+        this.wheel = new HierarchicalTimerWheel<>(Math.max(1, properties.getTick().toMillis()),
+                WHEEL_BITS, WHEEL_LEVELS, System.currentTimeMillis());
+    }
+
+    /**
+     * Registers a hold and schedules its expiry.
+     *
+     * @param hold the persisted hold
+     */
+    public void add(SeatHold hold) {
+        Entry entry = new Entry(hold);
+        entry.timeout = wheel.schedule(entry, hold.getExpiresAt().toEpochMilli());
+        Entry[] previous = new Entry[1];
+        byFlight.compute(hold.getFlightNumber(), (flightNumber, seats) -> {
+            Map<String, Entry> target = seats == null ? new ConcurrentHashMap<>() : seats;
+            previous[0] = target.put(hold.getSeatNumber(), entry);
+            return target;
+        });
+        if (previous[0] != null) {
+            // the seat was re-held after an expiry this instance has not processed yet
+            byId.remove(previous[0].hold.getId(), previous[0]);
+            previous[0].timeout.cancel();
+        }
+        byId.put(hold.getId(), entry);
+    }
+
+    public Optional<SeatHold> find(String holdId) {
+        Entry entry = byId.get(holdId);
+        return entry == null ? Optional.empty() : Optional.of(entry.hold);
+    }
+
+    /**
+     * Unregisters a hold and cancels its expiry.
+     *
+     * @param holdId the hold id
+     * @return the removed hold, if it was registered
+     */
+    public Optional<SeatHold> remove(String holdId) {
+        Entry entry = byId.remove(holdId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        entry.timeout.cancel();
+        unindex(entry);
+        return Optional.of(entry.hold);
+    }
+
+    /**
+     * Unregisters every hold that expired up to the given time.
+     *
+     * @param now the current time
+     * @return the expired holds
+     */
+    public List<SeatHold> expire(Instant now) {
+        List<Entry> due = wheel.advance(now.toEpochMilli());
+        List<SeatHold> expired = new ArrayList<>(due.size());
+        for (Entry entry : due) {
+            if (byId.remove(entry.hold.getId(), entry)) {
+                unindex(entry);
+                expired.add(entry.hold);
+            }
+        }
+        return expired;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private void unindex(Entry entry) {
+        byFlight.computeIfPresent(entry.hold.getFlightNumber(), (flightNumber, seats) -> {
+            seats.remove(entry.hold.getSeatNumber(), entry);
+            return seats.isEmpty() ? null : seats;
+        });
+    }
+
+    private static final class Entry {
+
+        private final SeatHold hold;
+        private volatile HierarchicalTimerWheel.Timeout<Entry> timeout;
+
+        private Entry(SeatHold hold) {
+            this.hold = hold;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.config.SeatHoldProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatHold;
+import com.example.airpot.domain.SeatOccupancy;
+import com.example.airpot.repository.SeatHoldRepository;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Domain service for time-limited seat holds taken during checkout.
+ * A hold reserves a seat for {@code airpot.seat-holds.ttl}; while it lasts, bookings of the
+ * seat by anyone but the holder are rejected, and confirming it books the seat.
+ * <p>
+ * A hold is recorded in the flight document itself, with a conditional update that only
+ * applies while the seat is free, so holds and bookings through any instance exclude each
+ * other. The {@code seat_holds} collection is the durable copy of a hold, looked up by id and
+ * reloaded on startup; its unique (flightNumber, seatNumber) index rejects a second hold before
+ * the flight is touched. Expiry runs on the in-process timer wheel of the
+ * {@link SeatHoldRegistry} and is released in batches; an expired entry in a flight no longer
+ * blocks its seat, and the TTL index on the collection cleans up holds whose instance went away.
+ *
+ */
+@Service
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+public class SeatHoldService {
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final SeatHoldRegistry seatHoldRegistry;
+    private final FlightService flightService;
+    private final FlightMetrics flightMetrics;
+    private final SeatHoldProperties properties;
+
+    /**
+     * Reloads the unexpired holds from the database, so a restart does not release them early.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<SeatHold> holds = seatHoldRepository.findByExpiresAtAfter(Instant.now());
+        holds.forEach(seatHoldRegistry::add);
+        log.info("Loaded {} seat holds", holds.size());
+    }
+
+    /**
+     * Holds a free seat of a flight.
+     *
+     * @param flightNumber the unique flight number
+     * @param seatNumber the seat to hold
+     * @return the hold, with its id and expiry
+     * @throws IllegalArgumentException if the flight is not found, or the seat is malformed, taken or on hold
+     */
+    public SeatHold holdSeat(
+            @NotBlank(message = "Flight number is required") String flightNumber,
+            @NotBlank(message = "Seat number is required") String seatNumber) {
+
+        Objects.requireNonNull(flightNumber, "Flight number cannot be null");
+        Objects.requireNonNull(seatNumber, "Seat number cannot be null");
+
+        if (SeatOccupancy.indexOf(seatNumber) < 0) {
+            throw new IllegalArgumentException("Invalid seat number: " + seatNumber);
+        }
+        Flight flight = flightService.getFlightWithPassengers(flightNumber);
+        if (flight.isSeatTaken(seatNumber)) {
+            throw new IllegalArgumentException("Seat " + seatNumber + " is already assigned");
+        }
+        Instant now = Instant.now();
+        if (flight.isSeatHeld(seatNumber, null, now)) {
+            throw new IllegalArgumentException("Seat " + seatNumber + " is on hold");
+        }
+
+        SeatHold hold = SeatHold.builder()
+                .flightNumber(flightNumber)
+                .seatNumber(seatNumber)
+                .createdAt(now)
+                .expiresAt(now.plus(properties.getTtl()))
+                .build();
+        SeatHold saved;
+        try {
+            saved = seatHoldRepository.insert(hold);
+        } catch (DuplicateKeyException ex) {
+            // the existing hold may have expired without the TTL monitor having removed it yet
+            Long deleted = seatHoldRepository.deleteByFlightNumberAndSeatNumberAndExpiresAtLessThanEqual(
+                    flightNumber, seatNumber, now);
+            if (deleted == null || deleted == 0) {
+                throw new IllegalArgumentException("Seat " + seatNumber + " is on hold");
+            }
+            try {
+                saved = seatHoldRepository.insert(hold);
+            } catch (DuplicateKeyException retryEx) {
+                throw new IllegalArgumentException("Seat " + seatNumber + " is on hold");
+            }
+        }
+        try {
+            flightService.recordSeatHold(saved);
+        } catch (IllegalArgumentException ex) {
+            // booked or held through the flight meanwhile
+            seatHoldRepository.deleteById(saved.getId());
+            throw ex;
+        }
+        seatHoldRegistry.add(saved);
+
+        log.info("Seat {} of flight {} held until {}", seatNumber, flightNumber, saved.getExpiresAt());
+        return saved;
+    }
+
+    /**
+     * Books the held seat for a passenger and releases the hold.
+     *
+     * @param flightNumber the unique flight number
+     * @param holdId the hold to confirm
+     * @param passenger the passenger, whose seat assignment must be the held seat
+     * @throws IllegalArgumentException if the hold is unknown or expired, or does not match the passenger's seat
+     */
+    public void confirm(
+            @NotBlank(message = "Flight number is required") String flightNumber,
+            @NotBlank(message = "Hold ID is required") String holdId,
+            @Valid @NotNull(message = "Passenger is required") Passenger passenger) {
+
+        Objects.requireNonNull(passenger, "Passenger cannot be null");
+
+        SeatHold hold = activeHold(flightNumber, holdId);
+        if (!passenger.hasSeatAssignment()
+                || !hold.getSeatNumber().equals(passenger.getSeatAssignment().getSeatNumber())) {
+            throw new IllegalArgumentException("Hold " + holdId + " is for seat " + hold.getSeatNumber());
+        }
+
+        // the booking update also removes the hold from the flight
+        flightService.addPassengerToFlight(flightNumber, passenger, holdId);
+        seatHoldRegistry.remove(holdId);
+        seatHoldRepository.deleteById(holdId);
+
+        log.info("Hold {} confirmed for passenger {} on flight {}", holdId, passenger.getName(), flightNumber);
+    }
+
+    /**
+     * Releases a hold before it expires.
+     *
+     * @param flightNumber the unique flight number
+     * @param holdId the hold to release
+     * @return true if the hold was released, false if it did not exist
+     */
+    public boolean release(
+            @NotBlank(message = "Flight number is required") String flightNumber,
+            @NotBlank(message = "Hold ID is required") String holdId) {
+
+        Objects.requireNonNull(holdId, "Hold ID cannot be null");
+
+        boolean known = seatHoldRegistry.find(holdId)
+                .map(hold -> hold.getFlightNumber().equals(flightNumber))
+                .orElse(false);
+        if (known) {
+            seatHoldRegistry.remove(holdId);
+        } else if (seatHoldRepository.findById(holdId)
+                .filter(hold -> hold.getFlightNumber().equals(flightNumber))
+                .isEmpty()) {
+            return false;
+        }
+        flightService.releaseSeatHold(flightNumber, holdId);
+        seatHoldRepository.deleteById(holdId);
+        return true;
+    }
+
+    /**
+     * Releases the holds that expired since the last run, with one delete per batch.
+     */
+    @Scheduled(fixedDelayString = "${airpot.seat-holds.tick:PT0.1S}")
+    public void expireHolds() {
+        List<SeatHold> expired = seatHoldRegistry.expire(Instant.now());
+        if (expired.isEmpty()) {
+            return;
+        }
+        flightService.removeExpiredSeatHolds(expired);
+        seatHoldRepository.deleteAllById(expired.stream().map(SeatHold::getId).toList());
+        flightMetrics.holdsExpired(expired.size());
+        log.debug("Released {} expired seat holds", expired.size());
+    }
+
+    private SeatHold activeHold(String flightNumber, String holdId) {
+        SeatHold hold = seatHoldRegistry.find(holdId)
+                // held through another instance
+                .or(() -> seatHoldRepository.findById(holdId))
+                .filter(h -> h.getFlightNumber().equals(flightNumber))
+                .orElseThrow(() -> new IllegalArgumentException("Hold not found: " + holdId));
+        if (hold.isExpired(Instant.now())) {
+            throw new IllegalArgumentException("Hold " + holdId + " has expired");
+        }
+        return hold;
+    }
+}
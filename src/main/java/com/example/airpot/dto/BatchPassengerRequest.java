@@ -0,0 +1,30 @@
+package com.example.airpot.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for boarding a group of passengers onto a flight in one request.
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchPassengerRequest {
+
+    /**
+     * The passengers to add, each with its own seat assignment.
+     */
+    @NotEmpty(message = "At least one passenger is required")
+    @Size(max = 500, message = "A batch can contain at most 500 passengers")
+    @Valid
+    private List<PassengerRequest> passengers;
+}
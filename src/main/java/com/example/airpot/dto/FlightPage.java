@@ -0,0 +1,80 @@
+package com.example.airpot.dto;
+
+import com.example.airpot.domain.Flight;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * One page of flights ordered by scheduled departure and id, with an opaque cursor
+ * pointing past its last element.
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightPage {
+
+    /**
+     * The flights of this page.
+     */
+    private List<Flight> flights;
+
+    /**
+     * Cursor to pass to fetch the next page, or null if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Keyset position of a page boundary: the (scheduledDeparture, id) of the last flight returned.
+     *
+     * @param scheduledDeparture the departure time of the last flight
+     * @param id the id of the last flight
+     */
+    public record Cursor(LocalDateTime scheduledDeparture, String id) {
+
+        private static final char SEPARATOR = '|';
+
+        public static Cursor of(Flight flight) {
+            return new Cursor(flight.getScheduledDeparture(), flight.getId());
+        }
+
+        /**
+         * Encodes this cursor as an opaque, URL-safe token.
+         *
+         * @return the token
+         */
+        public String encode() {
+            String raw = scheduledDeparture.toString() + SEPARATOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Decodes a token produced by {@link #encode()}.
+         *
+         * @param token the token
+         * @return the decoded cursor
+         * @throws IllegalArgumentException if the token is malformed
+         */
+        public static Cursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(SEPARATOR);
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Invalid cursor: " + token);
+                }
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.airpot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Passenger-free projection of a flight for search results.
+ * Passenger and seat counts are computed by the database, so the passenger list
+ * itself is never read or transferred.
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightSummary {
+
+    private String id;
+
+    private String flightNumber;
+
+    private String origin;
+
+    private String destination;
+
+    private LocalDateTime scheduledDeparture;
+
+    private LocalDateTime scheduledArrival;
+
+    /**
+     * Number of passengers booked on the flight.
+     */
+    private int passengerCount;
+
+    /**
+     * Number of free seats on the seat grid of the flight.
+     */
+    private int seatsAvailable;
+
+    private LocalDateTime lastModifiedAt;
+
+    /**
+     * Version of the flight the summary was read at. Not part of the API.
+     */
+    @JsonIgnore
+    private Long version;
+}
@@ -0,0 +1,47 @@
+package com.example.airpot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A connection between two airports made of one or more consecutive flights.
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Itinerary {
+
+    /**
+     * The flights of this connection, in travel order.
+     */
+    private List<Leg> legs;
+
+    private LocalDateTime departure;
+
+    private LocalDateTime arrival;
+
+    /**
+     * Total travel time from the first departure to the last arrival, in minutes.
+     */
+    private long totalMinutes;
+
+    /**
+     * One flight of an itinerary.
+     *
+     * @param flightNumber the flight number
+     * @param origin the departure airport
+     * @param destination the arrival airport
+     * @param scheduledDeparture the scheduled departure time
+     * @param scheduledArrival the scheduled arrival time
+     */
+    public record Leg(String flightNumber, String origin, String destination,
+                      LocalDateTime scheduledDeparture, LocalDateTime scheduledArrival) {
+    }
+}
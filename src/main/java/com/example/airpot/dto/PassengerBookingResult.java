@@ -0,0 +1,46 @@
+package com.example.airpot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of booking a single passenger as part of a batch request.
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PassengerBookingResult {
+
+    /**
+     * Booking outcome of a passenger.
+     */
+    public enum Status {
+        BOOKED,
+        REJECTED
+    }
+
+    /**
+     * Position of the passenger in the request.
+     */
+    private int index;
+
+    /**
+     * The identifier assigned to the passenger, only set when booked.
+     */
+    private String passengerId;
+
+    private String name;
+
+    private String seatNumber;
+
+    private Status status;
+
+    /**
+     * The reason for a rejection, null when booked.
+     */
+    private String message;
+}
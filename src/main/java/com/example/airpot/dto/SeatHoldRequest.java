@@ -0,0 +1,26 @@
+package com.example.airpot.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for seat hold requests.
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatHoldRequest {
+
+    /**
+     * The seat number to hold (e.g., "12A", "15B").
+     */
+    @Pattern(regexp = "^[1-9][0-9]?[A-F]$", message = "Seat number must be in format like '12A' or '5B'")
+    @NotBlank(message = "Seat number is required")
+    private String seatNumber;
+}
@@ -0,0 +1,61 @@
+package com.example.airpot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Seat availability of a flight per cabin, without the passenger manifest.
+ * Occupied seats are encoded as a bitmap per cabin instead of a list of seat numbers.
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatMap {
+
+    private String flightNumber;
+
+    /**
+     * Version of the flight the seat map was computed from.
+     */
+    private Long version;
+
+    /**
+     * Seats per row, lettered A onwards.
+     */
+    private int seatsPerRow;
+
+    private List<Cabin> cabins;
+
+    /**
+     * Availability of one seat class.
+     * Bit {@code i % 8} of byte {@code i / 8} of the base64-decoded {@code occupiedBitmap} is set
+     * if seat {@code i} of the cabin is taken, counting row by row from {@code firstRow}, seat A first;
+     * that is row {@code firstRow + i / seatsPerRow}, letter {@code 'A' + i % seatsPerRow}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Cabin {
+
+        private String seatClass;
+
+        private int firstRow;
+
+        private int lastRow;
+
+        private int total;
+
+        private int occupied;
+
+        private int free;
+
+        private String occupiedBitmap;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.airpot.json;
+
+import com.example.airpot.config.FlightJsonProperties;
+import com.example.airpot.domain.Flight;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pre-serialized JSON of stored flights, keyed by flight id and valid while the flight's
+ * {@code lastModifiedAt} and version are unchanged. Every write of a flight, including the
+ * conditional passenger updates, sets both. A loaded copy changed in memory before its save keeps
+ * both, so the number of passengers is part of the check as well.
+ * Flights never saved (no id, version or lastModifiedAt) are not cached.
+ * <p>
+ * Bounded by the size of the JSON text and its UTF-8 encoding, both kept; statistics are published as {@code cache.*} meters named "flightJson".
+ *
+ */
+@Component
+public class FlightJsonCache {
+
+    private record Entry(long version, LocalDateTime lastModifiedAt, int passengerCount, SerializedString json) {
+
+        boolean matches(Flight flight) {
+            return version == flight.getVersion()
+                    && lastModifiedAt.equals(flight.getLastModifiedAt())
+                    && passengerCount == flight.getPassengerCount();
+        }
+    }
+
+    private final Cache<String, Entry> entries;
+
+    public FlightJsonCache(FlightJsonProperties properties, MeterRegistry meterRegistry) {
+        long maxBytes = properties.getCacheSize().toBytes();
+        if (maxBytes <= 0) {
+            this.entries = null;
+            return;
+        }
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .<String, Entry>weigher((id, entry) -> entry.json().charLength() + entry.json().asUnquotedUTF8().length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "flightJson");
+    }
+
+    boolean isEnabled() {
+        return entries != null;
+    }
+
+    /**
+     * @return the cached JSON of the flight, or null if it is not cached or the flight has changed since
+     */
+    SerializedString get(Flight flight) {
+        if (!isCacheable(flight)) {
+            return null;
+        }
+        Entry entry = entries.getIfPresent(flight.getId());
+        return entry != null && entry.matches(flight) ? entry.json() : null;
+    }
+
+    void put(Flight flight, SerializedString json) {
+        if (isCacheable(flight)) {
+            entries.put(flight.getId(), new Entry(flight.getVersion(), flight.getLastModifiedAt(),
+                    flight.getPassengerCount(), json));
+        }
+    }
+
+    private boolean isCacheable(Flight flight) {
+        return entries != null
+                && flight.getId() != null
+                && flight.getVersion() != null
+                && flight.getLastModifiedAt() != null
+                && flight.getPassengers() != null;
+    }
+}
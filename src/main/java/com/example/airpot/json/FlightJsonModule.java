@@ -0,0 +1,58 @@
+package com.example.airpot.json;
+
+import com.example.airpot.config.FlightJsonProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jackson module that writes {@link Flight} and {@link Passenger} with hand-written serializers
+ * instead of the reflective bean serializers, and serves unchanged flights from {@link FlightJsonCache}.
+ * Spring Boot registers it with the application's ObjectMapper, so it covers the servlet and
+ * reactive controllers alike.
+ * <p>
+ * The output is byte-for-byte the bean serializers' output for the application's configuration
+ * (ISO dates, nulls included). When a request needs anything else, such as date timestamps,
+ * a JSON view or a non-default inclusion, the bean serializer is used instead.
+ *
+ */
+@Component
+public class FlightJsonModule extends SimpleModule {
+
+    public FlightJsonModule(FlightJsonProperties properties, FlightJsonCache cache) {
+        super(FlightJsonModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDescription,
+                                                      JsonSerializer<?> serializer) {
+                Class<?> type = beanDescription.getBeanClass();
+                if (type == Flight.class) {
+                    return new FlightJsonSerializer(serializer, properties, cache);
+                }
+                if (type == Passenger.class) {
+                    return new PassengerJsonSerializer(serializer, properties);
+                }
+                return serializer;
+            }
+        });
+    }
+
+    /**
+     * Whether the hand-written serializers produce the bean serializers' output for this call.
+     */
+    static boolean isHandWritten(FlightJsonProperties properties, SerializerProvider provider) {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+        return properties.isEnabled()
+                && !provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                && provider.getActiveView() == null
+                && (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.airpot.json;
+
+import com.example.airpot.config.FlightJsonProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes a {@link Flight} field by field, in the order of the bean serializer. The JSON of a
+ * stored flight is kept in {@link FlightJsonCache} and copied verbatim into later responses until
+ * the flight changes, whenever the response is written as compact UTF-8 bytes.
+ *
+ */
+final class FlightJsonSerializer extends StdSerializer<Flight> implements ResolvableSerializer {
+
+    private static final JsonFactory DEFAULT_FACTORY = new JsonFactory();
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString FLIGHT_NUMBER = new SerializedString("flightNumber");
+    private static final SerializedString ORIGIN = new SerializedString("origin");
+    private static final SerializedString DESTINATION = new SerializedString("destination");
+    private static final SerializedString SCHEDULED_DEPARTURE = new SerializedString("scheduledDeparture");
+    private static final SerializedString SCHEDULED_ARRIVAL = new SerializedString("scheduledArrival");
+    private static final SerializedString PASSENGERS = new SerializedString("passengers");
+    private static final SerializedString EVENTS = new SerializedString("events");
+    private static final SerializedString VERSION = new SerializedString("version");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString LAST_MODIFIED_AT = new SerializedString("lastModifiedAt");
+    private static final SerializedString PASSENGER_COUNT = new SerializedString("passengerCount");
+
+    private final JsonSerializer<Object> beanSerializer;
+    private final FlightJsonProperties properties;
+    private final FlightJsonCache cache;
+
+    @SuppressWarnings("unchecked")
+    FlightJsonSerializer(JsonSerializer<?> beanSerializer, FlightJsonProperties properties, FlightJsonCache cache) {
+        super(Flight.class);
+        this.beanSerializer = (JsonSerializer<Object>) beanSerializer;
+        this.properties = properties;
+        this.cache = cache;
+    }
+
+    @Override
+    public void serialize(Flight flight, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (!FlightJsonModule.isHandWritten(properties, provider)) {
+            beanSerializer.serialize(flight, generator, provider);
+            return;
+        }
+        // the cached bytes are UTF-8 as written by a byte-based generator; a Writer may escape differently
+        if (!cache.isEnabled() || generator.getPrettyPrinter() != null
+                || !(generator.getOutputTarget() instanceof OutputStream)) {
+            write(flight, generator, provider);
+            return;
+        }
+        SerializedString json = cache.get(flight);
+        if (json == null) {
+            json = render(flight, generator, provider);
+            cache.put(flight, json);
+        }
+        generator.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(Flight flight, JsonGenerator generator, SerializerProvider provider,
+                                  TypeSerializer typeSerializer) throws IOException {
+        beanSerializer.serializeWithType(flight, generator, provider, typeSerializer);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (beanSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    /**
+     * Renders the flight as the generator would and keeps the text together with its UTF-8
+     * encoding, which {@code writeRawValue} then copies into the output buffer.
+     */
+    private static SerializedString render(Flight flight, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        JsonFactory factory = generator.getCodec() == null ? DEFAULT_FACTORY : generator.getCodec().getFactory();
+        try (ByteArrayBuilder bytes = new ByteArrayBuilder()) {
+            try (JsonGenerator buffer = factory.createGenerator(bytes)) {
+                buffer.overrideStdFeatures(generator.getFeatureMask(), -1);
+                buffer.setCharacterEscapes(generator.getCharacterEscapes());
+                buffer.setHighestNonEscapedChar(generator.getHighestEscapedChar());
+                write(flight, buffer, provider);
+            }
+            SerializedString json = new SerializedString(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+            json.asUnquotedUTF8();
+            return json;
+        }
+    }
+
+    private static void write(Flight flight, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(flight);
+        generator.writeFieldName(ID);
+        generator.writeString(flight.getId());
+        generator.writeFieldName(FLIGHT_NUMBER);
+        generator.writeString(flight.getFlightNumber());
+        generator.writeFieldName(ORIGIN);
+        generator.writeString(flight.getOrigin());
+        generator.writeFieldName(DESTINATION);
+        generator.writeString(flight.getDestination());
+        generator.writeFieldName(SCHEDULED_DEPARTURE);
+        JsonDates.writeLocalDateTime(generator, flight.getScheduledDeparture());
+        generator.writeFieldName(SCHEDULED_ARRIVAL);
+        JsonDates.writeLocalDateTime(generator, flight.getScheduledArrival());
+        generator.writeFieldName(PASSENGERS);
+        List<Passenger> passengers = flight.getPassengers();
+        if (passengers == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray(passengers, passengers.size());
+            for (Passenger passenger : passengers) {
+                if (passenger == null) {
+                    generator.writeNull();
+                } else {
+                    PassengerJsonSerializer.write(passenger, generator);
+                }
+            }
+            generator.writeEndArray();
+        }
+        // pending events stay in the outbox; the field is kept, always empty, for compatibility
+        generator.writeFieldName(EVENTS);
+        generator.writeStartArray(flight.getPublishedEvents(), 0);
+        generator.writeEndArray();
+        generator.writeFieldName(VERSION);
+        if (flight.getVersion() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(flight.getVersion());
+        }
+        generator.writeFieldName(CREATED_AT);
+        JsonDates.writeLocalDateTime(generator, flight.getCreatedAt());
+        generator.writeFieldName(LAST_MODIFIED_AT);
+        JsonDates.writeLocalDateTime(generator, flight.getLastModifiedAt());
+        generator.writeFieldName(PASSENGER_COUNT);
+        generator.writeNumber(flight.getPassengerCount());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.airpot.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes {@link LocalDateTime} values exactly as Jackson's {@code LocalDateTimeSerializer} does
+ * with {@code WRITE_DATES_AS_TIMESTAMPS} disabled, i.e. in {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}:
+ * seconds always present, the fraction without trailing zeros and omitted when zero.
+ * Four-digit years are rendered into a char buffer instead of going through the formatter.
+ *
+ */
+final class JsonDates {
+
+    private JsonDates() {
+    }
+
+    static void writeLocalDateTime(JsonGenerator generator, LocalDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // the formatter adds a sign to these years
+            generator.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = new char[29];
+        put4(buffer, 0, year);
+        buffer[4] = '-';
+        put2(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        put2(buffer, 8, value.getDayOfMonth());
+        buffer[10] = 'T';
+        put2(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        put2(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        put2(buffer, 17, value.getSecond());
+        int length = 19;
+        int nano = value.getNano();
+        if (nano != 0) {
+            buffer[length++] = '.';
+            int divisor = 100_000_000;
+            while (nano != 0) {
+                buffer[length++] = (char) ('0' + nano / divisor);
+                nano %= divisor;
+                divisor /= 10;
+            }
+        }
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static void put4(char[] buffer, int offset, int value) {
+        put2(buffer, offset, value / 100);
+        put2(buffer, offset + 2, value % 100);
+    }
+
+    private static void put2(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.airpot.json;
+
+import com.example.airpot.config.FlightJsonProperties;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignmentJson;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link Passenger} field by field, in the order of the bean serializer.
+ *
+ */
+final class PassengerJsonSerializer extends StdSerializer<Passenger> implements ResolvableSerializer {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString SEAT_ASSIGNMENT = new SerializedString("seatAssignment");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString LAST_MODIFIED_AT = new SerializedString("lastModifiedAt");
+
+    private final JsonSerializer<Object> beanSerializer;
+    private final FlightJsonProperties properties;
+
+    @SuppressWarnings("unchecked")
+    PassengerJsonSerializer(JsonSerializer<?> beanSerializer, FlightJsonProperties properties) {
+        super(Passenger.class);
+        this.beanSerializer = (JsonSerializer<Object>) beanSerializer;
+        this.properties = properties;
+    }
+
+    @Override
+    public void serialize(Passenger passenger, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (FlightJsonModule.isHandWritten(properties, provider)) {
+            write(passenger, generator);
+        } else {
+            beanSerializer.serialize(passenger, generator, provider);
+        }
+    }
+
+    @Override
+    public void serializeWithType(Passenger passenger, JsonGenerator generator, SerializerProvider provider,
+                                  TypeSerializer typeSerializer) throws IOException {
+        beanSerializer.serializeWithType(passenger, generator, provider, typeSerializer);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (beanSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    static void write(Passenger passenger, JsonGenerator generator) throws IOException {
+        generator.writeStartObject(passenger);
+        generator.writeFieldName(ID);
+        generator.writeString(passenger.getId());
+        generator.writeFieldName(NAME);
+        generator.writeString(passenger.getName());
+        generator.writeFieldName(SEAT_ASSIGNMENT);
+        if (passenger.getSeatAssignment() == null) {
+            generator.writeNull();
+        } else {
+            SeatAssignmentJson.write(passenger.getSeatAssignment(), generator);
+        }
+        generator.writeFieldName(CREATED_AT);
+        JsonDates.writeLocalDateTime(generator, passenger.getCreatedAt());
+        generator.writeFieldName(LAST_MODIFIED_AT);
+        JsonDates.writeLocalDateTime(generator, passenger.getLastModifiedAt());
+        generator.writeEndObject();
+    }
+}
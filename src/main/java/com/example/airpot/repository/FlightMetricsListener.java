@@ -0,0 +1,62 @@
+package com.example.airpot.repository;
+
+import com.example.airpot.config.FlightMetricsProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domainservice.FlightMetrics;
+import com.mongodb.MongoClientSettings;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Feeds the passenger count and document size distributions of {@link FlightMetrics}
+ * from the mapping events of every Flight document read or saved, whichever repository
+ * method or template call caused it.
+ * <p>
+ * Measuring a document's size means encoding it a second time, so only a sample of the saves
+ * ({@code airpot.metrics.flights.document-size-sample-rate}) is measured.
+ *
+ */
+@Component
+@RequiredArgsConstructor
+public class FlightMetricsListener extends AbstractMongoEventListener<Flight> {
+
+    private static final Codec<Document> DOCUMENT_CODEC = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+
+    private final FlightMetrics flightMetrics;
+    private final FlightMetricsProperties properties;
+
+    @Override
+    public void onAfterConvert(AfterConvertEvent<Flight> event) {
+        // projections without the manifest, e.g. the version returned by a booking, say nothing about it
+        Document document = event.getDocument();
+        if (document == null || document.containsKey("passengers")) {
+            flightMetrics.recordPassengers(passengerCount(event.getSource()));
+        }
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Flight> event) {
+        flightMetrics.recordPassengers(passengerCount(event.getSource()));
+        Document document = event.getDocument();
+        if (document != null && sampled()) {
+            flightMetrics.recordDocumentSize(new RawBsonDocument(document, DOCUMENT_CODEC).getByteBuffer().remaining());
+        }
+    }
+
+    private boolean sampled() {
+        int rate = properties.getDocumentSizeSampleRate();
+        return rate == 1 || rate > 1 && ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    private static int passengerCount(Flight flight) {
+        return flight.getPassengers() == null ? 0 : flight.getPassengers().size();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.airpot.repository;
+
+import com.example.airpot.domain.FlightEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+/**
+ * Repository of the {@code flight_outbox} collection, which holds the undelivered events of
+ * deleted flights.
+ *
+ */
+public interface FlightOutboxRepository extends MongoRepository<FlightEvent, String> {
+
+    /**
+     * Finds the oldest events, in the order they occurred.
+     */
+    List<FlightEvent> findByOrderByIdAsc(Limit limit);
+}
@@ -0,0 +1,288 @@
+package com.example.airpot.repository;
+
+import com.example.airpot.domain.AuditClock;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.FlightEvent;
+import com.example.airpot.domain.HeldSeat;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatOccupancy;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Query, update and aggregation shapes of the Flight collection, shared by the blocking
+ * and the reactive repository implementations so both stacks issue identical commands.
+ *
+ */
+public final class FlightQueries {
+
+    public static final Sort DEPARTURE_ORDER = Sort.by("scheduledDeparture", "id");
+
+    private FlightQueries() {
+    }
+
+    /**
+     * Options of the conditional updates that report the version they produced.
+     */
+    public static FindAndModifyOptions returnNew() {
+        return FindAndModifyOptions.options().returnNew(true);
+    }
+
+    /**
+     * Matches the flight only if the passenger's seat is neither assigned nor held by
+     * a checkout other than the given hold.
+     */
+    public static Query seatAvailable(String flightNumber, Passenger passenger, String holdId, Instant now) {
+        Criteria criteria = Criteria.where("flightNumber").is(flightNumber);
+        if (passenger.getSeatAssignment() != null) {
+            String seatNumber = passenger.getSeatAssignment().getSeatNumber();
+            criteria = criteria.and("passengers.seatAssignment.seatNumber").ne(seatNumber)
+                    .and("seatHolds").not().elemMatch(heldByOther(Criteria.where("seatNumber").is(seatNumber), holdId, now));
+        }
+        return new Query(criteria);
+    }
+
+    /**
+     * Matches the flight only if none of the passengers' seats is assigned or on hold yet.
+     */
+    public static Query seatsAvailable(String flightNumber, List<Passenger> passengers, Instant now) {
+        List<String> seatNumbers = passengers.stream()
+                .filter(Passenger::hasSeatAssignment)
+                .map(p -> p.getSeatAssignment().getSeatNumber())
+                .toList();
+
+        Criteria criteria = Criteria.where("flightNumber").is(flightNumber);
+        if (!seatNumbers.isEmpty()) {
+            criteria = criteria.and("passengers.seatAssignment.seatNumber").nin(seatNumbers)
+                    .and("seatHolds").not().elemMatch(heldByOther(Criteria.where("seatNumber").in(seatNumbers), null, now));
+        }
+        return new Query(criteria);
+    }
+
+    /**
+     * Matches the flight only if the seat is held by a checkout other than the given hold.
+     */
+    public static Query seatHeld(String flightNumber, String seatNumber, String holdId, Instant now) {
+        return new Query(Criteria.where("flightNumber").is(flightNumber)
+                .and("seatHolds").elemMatch(heldByOther(Criteria.where("seatNumber").is(seatNumber), holdId, now)));
+    }
+
+    private static Criteria heldByOther(Criteria seat, String holdId, Instant now) {
+        Criteria criteria = seat.and("expiresAt").gt(now);
+        return holdId == null ? criteria : criteria.and("holdId").ne(holdId);
+    }
+
+    /**
+     * Records a seat hold on the flight, matching only if the seat is neither assigned nor
+     * held. The version is incremented, so a concurrent save of an older copy, which would
+     * drop the hold, fails instead.
+     */
+    public static Query seatHoldable(String flightNumber, HeldSeat heldSeat, Instant now) {
+        return new Query(Criteria.where("flightNumber").is(flightNumber)
+                .and("passengers.seatAssignment.seatNumber").ne(heldSeat.getSeatNumber())
+                .and("seatHolds").not().elemMatch(heldByOther(Criteria.where("seatNumber").is(heldSeat.getSeatNumber()), null, now)));
+    }
+
+    public static Update addSeatHold(HeldSeat heldSeat) {
+        return new Update().inc("version", 1).push("seatHolds", heldSeat);
+    }
+
+    /**
+     * Matches the flight only while it records the given hold.
+     */
+    public static Query seatHold(String flightNumber, String holdId) {
+        return new Query(Criteria.where("flightNumber").is(flightNumber).and("seatHolds.holdId").is(holdId));
+    }
+
+    /**
+     * Removes a released hold. The version is incremented, as a concurrent save of an older
+     * copy would bring the still unexpired hold back.
+     */
+    public static Update removeSeatHold(String holdId) {
+        return new Update().inc("version", 1).pull("seatHolds", Query.query(Criteria.where("holdId").is(holdId)));
+    }
+
+    /**
+     * Removes expired holds. Does not change the version: an expired hold blocks nothing,
+     * so a concurrent save of an older copy bringing it back does no harm.
+     */
+    public static Update removeExpiredSeatHolds(Collection<String> holdIds, Instant now) {
+        return new Update().pull("seatHolds", new Query(new Criteria().orOperator(
+                Criteria.where("holdId").in(holdIds),
+                Criteria.where("expiresAt").lte(now))));
+    }
+
+    /**
+     * Appends the passengers with {@code $push/$each}, together with one PASSENGER_ADDED
+     * event each, so the events are stored atomically with the booking. Auditing and
+     * versioning do not apply to partial updates, so both are maintained here.
+     *
+     * @param seatReferences whether to embed only the {@link #seatReference(Passenger) seat references}
+     */
+    public static Update appendPassengers(String flightNumber, List<Passenger> passengers, boolean seatReferences) {
+        Update update = new Update()
+                .inc("version", 1)
+                .set("lastModifiedAt", AuditClock.now());
+        update.push("passengers").each(seatReferences
+                ? passengers.stream().map(FlightQueries::seatReference).toArray()
+                : passengers.toArray());
+        update.push("events").each(passengers.stream()
+                .map(passenger -> FlightEvent.passengerAdded(flightNumber, passenger))
+                .toArray());
+        return update;
+    }
+
+    /**
+     * The compact form of an embedded passenger: its id and seat number only, the rest being
+     * read from the passengers collection.
+     */
+    public static Document seatReference(Passenger passenger) {
+        Document reference = new Document("_id", toObjectId(passenger.getId()));
+        if (passenger.hasSeatAssignment()) {
+            reference.append("seatAssignment", new Document("seatNumber", passenger.getSeatAssignment().getSeatNumber()));
+        }
+        return reference;
+    }
+
+    /**
+     * The compact form of an embedded passenger document as written by the mapping layer.
+     */
+    public static Document seatReference(Document passenger) {
+        Document reference = new Document("_id", passenger.get("_id"));
+        if (passenger.get("seatAssignment") instanceof Document seatAssignment) {
+            reference.append("seatAssignment", new Document("seatNumber", seatAssignment.get("seatNumber")));
+        }
+        return reference;
+    }
+
+    private static Object toObjectId(String id) {
+        // the mapping layer stores String ids that are valid ObjectIds as ObjectIds
+        return id != null && ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    /**
+     * Matches flights that have undelivered events, through the partial pending_events_idx.
+     */
+    public static Query pendingEvents(int limit) {
+        Query query = new Query(Criteria.where("events.id").exists(true)).limit(limit);
+        query.fields().include("flightNumber", "events");
+        return query;
+    }
+
+    /**
+     * Removes delivered events from a flight. Does not change the version: concurrent
+     * bookings stay valid, and a concurrent save of an older copy at worst stores the
+     * events again, to be delivered twice.
+     */
+    public static Update removeEvents(List<String> eventIds) {
+        // the nested query is not converted by the update mapper, so pass the stored id type
+        List<ObjectId> ids = eventIds.stream().map(ObjectId::new).toList();
+        return new Update().pull("events", Query.query(Criteria.where("id").in(ids)));
+    }
+
+    /**
+     * The events recorded in the outbox collection when a flight is deleted: its pending
+     * events followed by FLIGHT_DELETED.
+     */
+    public static List<FlightEvent> deletionEvents(Flight flight) {
+        List<FlightEvent> events = new ArrayList<>(flight.getEvents());
+        events.add(FlightEvent.flightDeleted(flight));
+        return events;
+    }
+
+    public static Query eventsById(List<FlightEvent> events) {
+        return new Query(Criteria.where("id").in(events.stream().map(FlightEvent::getId).toList()));
+    }
+
+    /**
+     * Matches the flight only while it is unchanged since it was read.
+     */
+    public static Query unchanged(Flight flight) {
+        return new Query(Criteria.where("id").is(flight.getId()).and("version").is(flight.getVersion()));
+    }
+
+    /**
+     * The next page of flights in (scheduledDeparture, id) order after the given position,
+     * or the first page if there is none.
+     */
+    public static Query pageAfter(LocalDateTime afterDeparture, String afterId, int limit) {
+        Query query = new Query();
+        if (afterDeparture != null && afterId != null) {
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("scheduledDeparture").gt(afterDeparture),
+                    Criteria.where("scheduledDeparture").is(afterDeparture).and("id").gt(afterId)));
+        }
+        return query.with(DEPARTURE_ORDER).limit(limit);
+    }
+
+    public static Criteria route(String origin, String destination) {
+        return Criteria.where("origin").is(origin).and("destination").is(destination);
+    }
+
+    public static Criteria departureRange(LocalDateTime start, LocalDateTime end) {
+        return Criteria.where("scheduledDeparture").gte(start).lte(end);
+    }
+
+    /**
+     * A $match/$sort/$project pipeline that drops the passengers array on the server
+     * and replaces it with its $size and the remaining seat count.
+     */
+    public static TypedAggregation<Flight> summaries(Criteria criteria) {
+        AggregationExpression passengerCount = ArrayOperators.Size.lengthOfArray(
+                ConditionalOperators.ifNull("passengers").then(Collections.emptyList()));
+
+        return Aggregation.newAggregation(Flight.class,
+                Aggregation.match(criteria),
+                Aggregation.sort(DEPARTURE_ORDER),
+                Aggregation.project("flightNumber", "origin", "destination",
+                                "scheduledDeparture", "scheduledArrival", "lastModifiedAt", "version")
+                        .and(passengerCount).as("passengerCount")
+                        .and(ArithmeticOperators.Subtract.valueOf(SeatOccupancy.CAPACITY).subtract(passengerCount))
+                        .as("seatsAvailable"));
+    }
+
+    /**
+     * The scalar schedule fields only, without the passengers array.
+     */
+    public static Query schedules() {
+        Query query = new Query();
+        query.fields().include("flightNumber", "origin", "destination", "scheduledDeparture", "scheduledArrival");
+        return query;
+    }
+
+    /**
+     * The flight number, version and assigned seat numbers of one flight, without the rest of the manifest.
+     */
+    public static Query seatAssignments(String flightNumber) {
+        Query query = new Query(Criteria.where("flightNumber").is(flightNumber));
+        query.fields().include("flightNumber", "version", "passengers.seatAssignment.seatNumber");
+        return query;
+    }
+
+    /**
+     * The fields that change with every change of one flight's JSON: version and lastModifiedAt.
+     */
+    public static Query validators(String flightNumber) {
+        Query query = new Query(Criteria.where("flightNumber").is(flightNumber));
+        query.fields().include("flightNumber", "version", "lastModifiedAt");
+        return query;
+    }
+}
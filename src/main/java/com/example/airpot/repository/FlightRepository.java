@@ -10,10 +10,11 @@ import java.util.Optional;
 
 /**
  * Repository interface for managing Flight entities in MongoDB.
- * Extends MongoRepository to provide basic CRUD operations and custom query methods.
+ * Extends MongoRepository to provide basic CRUD operations and custom query methods,
+ * and {@link FlightRepositoryCustom} for atomic partial updates of the aggregate.
  *
  */
-public interface FlightRepository extends MongoRepository<Flight, String> {
+public interface FlightRepository extends MongoRepository<Flight, String>, FlightRepositoryCustom {
     /**
      * Finds a flight by its flight number.
      * 
@@ -22,6 +23,14 @@ public interface FlightRepository extends MongoRepository<Flight, String> {
      */
     Optional<Flight> findByFlightNumber(String flightNumber);
 
+    /**
+     * Checks whether a flight with the given flight number exists without loading the document.
+     *
+     * @param flightNumber the unique flight number to check
+     * @return true if a flight with that number exists, false otherwise
+     */
+    boolean existsByFlightNumber(String flightNumber);
+
     Long deleteFlightByFlightNumber(String flightNumber);
 
     /**
@@ -44,9 +53,9 @@ public interface FlightRepository extends MongoRepository<Flight, String> {
      * 
      * @param start the start of the time range (inclusive)
      * @param end the end of the time range (inclusive)
-     * @return a list of flights departing within the specified time range
+     * @return a list of flights departing within the specified time range, ordered by departure
      */
-    @Query("{'scheduledDeparture': {$gte: ?0, $lte: ?1}}")
+    @Query(value = "{'scheduledDeparture': {$gte: ?0, $lte: ?1}}", sort = "{'scheduledDeparture': 1, '_id': 1}")
     List<Flight> findFlightsByDepartureTimeRange(LocalDateTime start, LocalDateTime end);
 
     /**
@@ -54,9 +63,9 @@ public interface FlightRepository extends MongoRepository<Flight, String> {
      * 
      * @param origin the departure location
      * @param destination the arrival location
-     * @return a list of flights matching the specified route
+     * @return a list of flights matching the specified route, ordered by departure
      */
-    @Query("{'origin': ?0, 'destination': ?1}")
+    @Query(value = "{'origin': ?0, 'destination': ?1}", sort = "{'scheduledDeparture': 1, '_id': 1}")
     List<Flight> findByRoute(String origin, String destination);
 
 }
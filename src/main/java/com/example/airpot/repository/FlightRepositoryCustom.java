@@ -0,0 +1,171 @@
+package com.example.airpot.repository;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.HeldSeat;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatHold;
+import com.example.airpot.dto.FlightSummary;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for Flight write operations that must run as a single,
+ * atomic MongoDB update instead of a load/modify/save of the whole aggregate.
+ *
+ */
+public interface FlightRepositoryCustom {
+
+    /**
+     * Appends a passenger to the embedded passenger list of a flight, but only if
+     * no passenger on that flight already holds the same seat number and no checkout
+     * other than the given hold has it on hold. The checks and the push are performed
+     * in one conditional update, which also removes the confirmed hold.
+     *
+     * @param flightNumber the unique flight number
+     * @param passenger the passenger to add, including its seat assignment
+     * @param holdId the hold the booking confirms, or null
+     * @return the version of the flight after the update, or empty if no flight matched the seat-free predicate
+     */
+    Optional<Long> addPassengerIfSeatAvailable(String flightNumber, Passenger passenger, String holdId);
+
+    /**
+     * Appends several passengers to a flight in one conditional update.
+     * The update only applies if none of their seat numbers is taken or on hold on the flight.
+     * The passengers must not conflict with each other; that is checked by the caller.
+     *
+     * @param flightNumber the unique flight number
+     * @param passengers the passengers to add
+     * @return the version of the flight after the update, or empty if the flight was not found or a seat was taken meanwhile
+     */
+    Optional<Long> addPassengersIfSeatsAvailable(String flightNumber, List<Passenger> passengers);
+
+    /**
+     * Checks whether a seat of a flight is held by a checkout other than the given one.
+     *
+     * @param flightNumber the unique flight number
+     * @param seatNumber the seat number
+     * @param holdId the hold of the caller, or null
+     * @return true if another unexpired hold exists for the seat
+     */
+    boolean isSeatHeld(String flightNumber, String seatNumber, String holdId);
+
+    /**
+     * Records a seat hold in the flight document, but only if the seat is neither assigned
+     * nor held, in one conditional update.
+     *
+     * @param flightNumber the unique flight number
+     * @param heldSeat the hold to record
+     * @return true if the hold was recorded, false if no flight matched the seat-free predicate
+     */
+    boolean addSeatHoldIfSeatAvailable(String flightNumber, HeldSeat heldSeat);
+
+    /**
+     * Removes a released seat hold from its flight document.
+     *
+     * @param flightNumber the unique flight number
+     * @param holdId the hold id
+     * @return true if the flight recorded the hold
+     */
+    boolean removeSeatHold(String flightNumber, String holdId);
+
+    /**
+     * Removes expired seat holds, and any other expired hold of the same flights, with one update.
+     *
+     * @param holds the expired holds
+     */
+    void removeExpiredSeatHolds(Collection<SeatHold> holds);
+
+    /**
+     * Finds the next page of flights in (scheduledDeparture, id) order using keyset pagination.
+     *
+     * @param afterDeparture the departure time of the last flight already returned, or null for the first page
+     * @param afterId the id of the last flight already returned, or null for the first page
+     * @param limit the maximum number of flights to return
+     * @return the flights following the given position, in order
+     */
+    List<Flight> findPageAfter(LocalDateTime afterDeparture, String afterId, int limit);
+
+    /**
+     * Streams all flights in (scheduledDeparture, id) order from a database cursor.
+     * The caller must close the stream to release the cursor.
+     *
+     * @return a lazily fetched stream of flights
+     */
+    Stream<Flight> streamAllOrderedByDeparture();
+
+    /**
+     * Finds passenger-free summaries of the flights for a specific route, ordered by departure.
+     *
+     * @param origin the departure location
+     * @param destination the arrival location
+     * @return the summaries of the matching flights
+     */
+    List<FlightSummary> findRouteSummaries(String origin, String destination);
+
+    /**
+     * Finds passenger-free summaries of the flights departing within a time range, ordered by departure.
+     *
+     * @param start the start of the time range (inclusive)
+     * @param end the end of the time range (inclusive)
+     * @return the summaries of the matching flights
+     */
+    List<FlightSummary> findDepartureSummaries(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Streams the schedule of every flight: flight number, route and times, without passengers.
+     * The caller must close the stream to release the cursor.
+     *
+     * @return a lazily fetched stream of passenger-less flights
+     */
+    Stream<Flight> streamSchedules();
+
+    /**
+     * Finds the seat assignments of a flight without loading the rest of the manifest.
+     * The returned flight only has its flight number, version and the seat numbers of its passengers.
+     *
+     * @param flightNumber the unique flight number
+     * @return the partially loaded flight, or empty if it does not exist
+     */
+    Optional<Flight> findSeatAssignments(String flightNumber);
+
+    /**
+     * Finds what identifies the current state of a flight, for conditional requests, without
+     * loading the manifest. The returned flight only has its id, flight number, version
+     * and lastModifiedAt.
+     *
+     * @param flightNumber the unique flight number
+     * @return the partially loaded flight, or empty if it does not exist
+     */
+    Optional<Flight> findValidators(String flightNumber);
+
+    /**
+     * Deletes a flight and records a FLIGHT_DELETED event in the outbox collection, together
+     * with the undelivered events of the flight. The events are written first and the delete
+     * only applies to the unchanged flight; if it does not apply, the events are removed again.
+     *
+     * @param flight the flight as loaded, with its version
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the flight changed or was deleted meanwhile
+     */
+    void deleteRecordingEvent(Flight flight);
+
+    /**
+     * Finds flights with undelivered events.
+     * The returned flights only have their id, flight number and events.
+     *
+     * @param limit the maximum number of flights to return
+     * @return the flights with pending events
+     */
+    List<Flight> findWithPendingEvents(int limit);
+
+    /**
+     * Removes delivered events from their flights with one bulk write.
+     *
+     * @param eventIdsByFlightId the ids of the delivered events per flight id
+     */
+    void removeEvents(Map<String, List<String>> eventIdsByFlightId);
+}
@@ -0,0 +1,174 @@
+package com.example.airpot.repository;
+
+import com.example.airpot.config.PassengerStorageProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.FlightEvent;
+import com.example.airpot.domain.HeldSeat;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatHold;
+import com.example.airpot.dto.FlightSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.example.airpot.repository.FlightQueries.DEPARTURE_ORDER;
+
+/**
+ * MongoTemplate-backed implementation of {@link FlightRepositoryCustom}.
+ * Picked up automatically by Spring Data through the "Impl" naming convention.
+ *
+ */
+@RequiredArgsConstructor
+public class FlightRepositoryCustomImpl implements FlightRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final PassengerStorageProperties passengerStorage;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Issues one {@code findAndModify}, returning only the new version, whose filter requires the seat number to be absent
+     * from {@code passengers.seatAssignment.seatNumber} and from the unexpired entries of
+     * {@code seatHolds} of other holds, so two concurrent bookings of the same seat can never
+     * both succeed, nor a booking and a hold.
+     */
+    @Override
+    public Optional<Long> addPassengerIfSeatAvailable(String flightNumber, Passenger passenger, String holdId) {
+        Update update = FlightQueries.appendPassengers(flightNumber, List.of(passenger), seatReferences());
+        if (holdId != null) {
+            update.pull("seatHolds", Query.query(Criteria.where("holdId").is(holdId)));
+        }
+        return updateReturningVersion(FlightQueries.seatAvailable(flightNumber, passenger, holdId, Instant.now()), update);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses {@code $nin} over all requested seat numbers and {@code $push/$each}, so the
+     * whole group is written with one update or not at all.
+     */
+    @Override
+    public Optional<Long> addPassengersIfSeatsAvailable(String flightNumber, List<Passenger> passengers) {
+        return updateReturningVersion(FlightQueries.seatsAvailable(flightNumber, passengers, Instant.now()),
+                FlightQueries.appendPassengers(flightNumber, passengers, seatReferences()));
+    }
+
+    private Optional<Long> updateReturningVersion(Query query, Update update) {
+        query.fields().include("version");
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, FlightQueries.returnNew(), Flight.class))
+                .map(Flight::getVersion);
+    }
+
+    @Override
+    public boolean isSeatHeld(String flightNumber, String seatNumber, String holdId) {
+        return mongoTemplate.exists(FlightQueries.seatHeld(flightNumber, seatNumber, holdId, Instant.now()), Flight.class);
+    }
+
+    @Override
+    public boolean addSeatHoldIfSeatAvailable(String flightNumber, HeldSeat heldSeat) {
+        return mongoTemplate.updateFirst(FlightQueries.seatHoldable(flightNumber, heldSeat, Instant.now()),
+                FlightQueries.addSeatHold(heldSeat), Flight.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean removeSeatHold(String flightNumber, String holdId) {
+        return mongoTemplate.updateFirst(FlightQueries.seatHold(flightNumber, holdId),
+                FlightQueries.removeSeatHold(holdId), Flight.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public void removeExpiredSeatHolds(Collection<SeatHold> holds) {
+        if (holds.isEmpty()) {
+            return;
+        }
+        Set<String> flightNumbers = holds.stream().map(SeatHold::getFlightNumber).collect(Collectors.toSet());
+        List<String> holdIds = holds.stream().map(SeatHold::getId).toList();
+        mongoTemplate.updateMulti(Query.query(Criteria.where("flightNumber").in(flightNumbers)),
+                FlightQueries.removeExpiredSeatHolds(holdIds, Instant.now()), Flight.class);
+    }
+
+    @Override
+    public List<Flight> findPageAfter(LocalDateTime afterDeparture, String afterId, int limit) {
+        return mongoTemplate.find(FlightQueries.pageAfter(afterDeparture, afterId, limit), Flight.class);
+    }
+
+    @Override
+    public Stream<Flight> streamAllOrderedByDeparture() {
+        return mongoTemplate.stream(new Query().with(DEPARTURE_ORDER), Flight.class);
+    }
+
+    @Override
+    public List<FlightSummary> findRouteSummaries(String origin, String destination) {
+        return findSummaries(FlightQueries.route(origin, destination));
+    }
+
+    @Override
+    public List<FlightSummary> findDepartureSummaries(LocalDateTime start, LocalDateTime end) {
+        return findSummaries(FlightQueries.departureRange(start, end));
+    }
+
+    private List<FlightSummary> findSummaries(Criteria criteria) {
+        return mongoTemplate.aggregate(FlightQueries.summaries(criteria), FlightSummary.class).getMappedResults();
+    }
+
+    @Override
+    public Stream<Flight> streamSchedules() {
+        return mongoTemplate.stream(FlightQueries.schedules(), Flight.class);
+    }
+
+    @Override
+    public Optional<Flight> findSeatAssignments(String flightNumber) {
+        return Optional.ofNullable(mongoTemplate.findOne(FlightQueries.seatAssignments(flightNumber), Flight.class));
+    }
+
+    @Override
+    public Optional<Flight> findValidators(String flightNumber) {
+        return Optional.ofNullable(mongoTemplate.findOne(FlightQueries.validators(flightNumber), Flight.class));
+    }
+
+    @Override
+    public void deleteRecordingEvent(Flight flight) {
+        List<FlightEvent> events = FlightQueries.deletionEvents(flight);
+        // upsert: copies of pending events may already be there from an attempt that crashed
+        events.forEach(mongoTemplate::save);
+
+        if (mongoTemplate.remove(FlightQueries.unchanged(flight), Flight.class).getDeletedCount() == 0) {
+            mongoTemplate.remove(FlightQueries.eventsById(events), FlightEvent.class);
+            throw new OptimisticLockingFailureException("Flight " + flight.getFlightNumber() + " changed during delete");
+        }
+    }
+
+    @Override
+    public List<Flight> findWithPendingEvents(int limit) {
+        return mongoTemplate.find(FlightQueries.pendingEvents(limit), Flight.class);
+    }
+
+    @Override
+    public void removeEvents(Map<String, List<String>> eventIdsByFlightId) {
+        if (eventIdsByFlightId.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Flight.class);
+        eventIdsByFlightId.forEach((flightId, eventIds) -> bulk.updateOne(
+                Query.query(Criteria.where("id").is(flightId)), FlightQueries.removeEvents(eventIds)));
+        bulk.execute();
+    }
+
+    private boolean seatReferences() {
+        return passengerStorage.getMode() == PassengerStorageProperties.Mode.REFERENCE;
+    }
+}
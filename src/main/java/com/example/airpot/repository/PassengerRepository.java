@@ -1,6 +1,7 @@
 package com.example.airpot.repository;
 
 import com.example.airpot.domain.Passenger;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -44,4 +45,17 @@ public interface PassengerRepository extends MongoRepository<Passenger, String>
      */
     @Query("{'seatAssignment.seatClass': ?0}")
     List<Passenger> findBySeatClass(String seatClass);
+
+    /**
+     * Finds passengers whose normalized name lies in a key range, ordered by that key.
+     * A prefix search passes the normalized prefix and the prefix followed by the highest character,
+     * which the name_key_idx index answers with a single range scan.
+     *
+     * @param fromInclusive the lower bound of the normalized name
+     * @param toExclusive the upper bound of the normalized name
+     * @param limit the maximum number of passengers to return
+     * @return the passengers, ordered by normalized name
+     */
+    @Query(value = "{'nameKey': {$gte: ?0, $lt: ?1}}", sort = "{'nameKey': 1}")
+    List<Passenger> findByNameKeyRange(String fromInclusive, String toExclusive, Limit limit);
 }
@@ -0,0 +1,45 @@
+package com.example.airpot.repository;
+
+import com.example.airpot.config.PassengerStorageProperties;
+import com.example.airpot.domain.Flight;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes the passengers of a saved flight as seat references when the passenger storage
+ * mode is {@link PassengerStorageProperties.Mode#REFERENCE REFERENCE}, whichever repository
+ * method or template call saves the flight. Conditional updates embed seat references
+ * through {@link FlightQueries#appendPassengers} instead.
+ *
+ */
+@Component
+@RequiredArgsConstructor
+public class PassengerStorageListener extends AbstractMongoEventListener<Flight> {
+
+    private final PassengerStorageProperties properties;
+
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<Flight> event) {
+        Document document = event.getDocument();
+        if (document == null || properties.getMode() != PassengerStorageProperties.Mode.REFERENCE) {
+            return;
+        }
+        if (document.get("passengers") instanceof List<?> passengers) {
+            document.put("passengers", passengers.stream()
+                    .map(PassengerStorageListener::compact)
+                    .toList());
+        }
+    }
+
+    private static Object compact(Object passenger) {
+        // a passenger without an id has no passenger document to refer to, so it stays embedded
+        return passenger instanceof Document embedded && embedded.get("_id") != null
+                ? FlightQueries.seatReference(embedded)
+                : passenger;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.airpot.repository;
+
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.domain.SeatClass;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.List;
+
+/**
+ * Mongo converters that keep a {@link SeatAssignment} in its external form,
+ * {@code {seatNumber: "12A", seatClass: "First Class"}}, so stored documents, the queries and
+ * indexes on {@code seatAssignment.seatNumber} and the seat references written by
+ * {@link FlightQueries#seatReference} are unchanged by the compact in-memory layout.
+ * <p>
+ * A seat assignment is written by the mapping converter as a regular entity, its seat index
+ * being transient, so queries on its properties are mapped like any other path; only the
+ * class label needs a converter. Reading goes through {@link SeatAssignment#of(String, String)}
+ * to reuse the shared instances.
+ *
+ */
+public final class SeatAssignmentConverters {
+
+    private SeatAssignmentConverters() {
+    }
+
+    public static List<Converter<?, ?>> converters() {
+        return List.of(SeatAssignmentReader.INSTANCE, SeatClassWriter.INSTANCE, SeatClassReader.INSTANCE);
+    }
+
+    @ReadingConverter
+    enum SeatAssignmentReader implements Converter<Document, SeatAssignment> {
+        INSTANCE;
+
+        @Override
+        public SeatAssignment convert(Document source) {
+            return SeatAssignment.of(source.getString("seatNumber"), source.getString("seatClass"));
+        }
+    }
+
+    @WritingConverter
+    enum SeatClassWriter implements Converter<SeatClass, String> {
+        INSTANCE;
+
+        @Override
+        public String convert(SeatClass source) {
+            return source.getLabel();
+        }
+    }
+
+    @ReadingConverter
+    enum SeatClassReader implements Converter<String, SeatClass> {
+        INSTANCE;
+
+        @Override
+        public SeatClass convert(String source) {
+            return SeatClass.fromLabel(source);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.airpot.repository;
+
+import com.example.airpot.domain.SeatHold;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository of seat holds, the durable mirror of the in-process hold registry.
+ *
+ */
+public interface SeatHoldRepository extends MongoRepository<SeatHold, String> {
+
+    List<SeatHold> findByExpiresAtAfter(Instant now);
+
+    Long deleteByFlightNumberAndSeatNumberAndExpiresAtLessThanEqual(String flightNumber, String seatNumber, Instant now);
+}
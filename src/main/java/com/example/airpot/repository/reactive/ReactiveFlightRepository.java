@@ -0,0 +1,30 @@
+package com.example.airpot.repository.reactive;
+
+import com.example.airpot.domain.Flight;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking counterpart of {@link com.example.airpot.repository.FlightRepository},
+ * backed by the reactive streams MongoDB driver. Query results are emitted as the cursor
+ * is read, honouring the subscriber's demand.
+ *
+ */
+public interface ReactiveFlightRepository extends ReactiveMongoRepository<Flight, String>, ReactiveFlightRepositoryCustom {
+
+    Mono<Flight> findByFlightNumber(String flightNumber);
+
+    Mono<Boolean> existsByFlightNumber(String flightNumber);
+
+    Mono<Long> deleteFlightByFlightNumber(String flightNumber);
+
+    @Query(value = "{'scheduledDeparture': {$gte: ?0, $lte: ?1}}", sort = "{'scheduledDeparture': 1, '_id': 1}")
+    Flux<Flight> findFlightsByDepartureTimeRange(LocalDateTime start, LocalDateTime end);
+
+    @Query(value = "{'origin': ?0, 'destination': ?1}", sort = "{'scheduledDeparture': 1, '_id': 1}")
+    Flux<Flight> findByRoute(String origin, String destination);
+}
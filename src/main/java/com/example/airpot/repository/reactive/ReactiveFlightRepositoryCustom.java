@@ -0,0 +1,53 @@
+package com.example.airpot.repository.reactive;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.dto.FlightSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive custom operations on Flight documents, mirroring
+ * {@link com.example.airpot.repository.FlightRepositoryCustom}.
+ *
+ */
+public interface ReactiveFlightRepositoryCustom {
+
+    /**
+     * Atomically appends the passenger if the seat is still free and not on hold.
+     *
+     * @param flightNumber the unique flight number
+     * @param passenger the passenger to append
+     * @return the version of the flight after the update, or empty if the flight does not exist or the seat was not free
+     */
+    Mono<Long> addPassengerIfSeatAvailable(String flightNumber, Passenger passenger);
+
+    /**
+     * Checks whether a seat of a flight is held by any unexpired hold.
+     *
+     * @param flightNumber the unique flight number
+     * @param seatNumber the seat number
+     * @return true if an unexpired hold exists for the seat
+     */
+    Mono<Boolean> isSeatHeld(String flightNumber, String seatNumber);
+
+    /**
+     * Emits all flights ordered by scheduled departure and id.
+     */
+    Flux<Flight> findAllOrderedByDeparture();
+
+    Flux<FlightSummary> findRouteSummaries(String origin, String destination);
+
+    Flux<FlightSummary> findDepartureSummaries(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Deletes the unchanged flight and records its FLIGHT_DELETED event, as
+     * {@link com.example.airpot.repository.FlightRepositoryCustom#deleteRecordingEvent(Flight)} does.
+     *
+     * @param flight the flight as loaded, with its version
+     * @return completes when deleted, or errors with an OptimisticLockingFailureException if the flight changed
+     */
+    Mono<Void> deleteRecordingEvent(Flight flight);
+}
@@ -0,0 +1,77 @@
+package com.example.airpot.repository.reactive;
+
+import com.example.airpot.config.PassengerStorageProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.FlightEvent;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.dto.FlightSummary;
+import com.example.airpot.repository.FlightQueries;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ReactiveMongoTemplate-backed implementation of {@link ReactiveFlightRepositoryCustom},
+ * issuing the same commands as the blocking implementation.
+ *
+ */
+@RequiredArgsConstructor
+public class ReactiveFlightRepositoryCustomImpl implements ReactiveFlightRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final PassengerStorageProperties passengerStorage;
+
+    @Override
+    public Mono<Long> addPassengerIfSeatAvailable(String flightNumber, Passenger passenger) {
+        Query query = FlightQueries.seatAvailable(flightNumber, passenger, null, Instant.now());
+        query.fields().include("version");
+        return mongoTemplate.findAndModify(query,
+                        FlightQueries.appendPassengers(flightNumber, List.of(passenger), seatReferences()),
+                        FlightQueries.returnNew(), Flight.class)
+                .map(Flight::getVersion);
+    }
+
+    @Override
+    public Mono<Boolean> isSeatHeld(String flightNumber, String seatNumber) {
+        return mongoTemplate.exists(FlightQueries.seatHeld(flightNumber, seatNumber, null, Instant.now()), Flight.class);
+    }
+
+    @Override
+    public Flux<Flight> findAllOrderedByDeparture() {
+        return mongoTemplate.find(new Query().with(FlightQueries.DEPARTURE_ORDER), Flight.class);
+    }
+
+    @Override
+    public Flux<FlightSummary> findRouteSummaries(String origin, String destination) {
+        return mongoTemplate.aggregate(FlightQueries.summaries(FlightQueries.route(origin, destination)), FlightSummary.class);
+    }
+
+    @Override
+    public Flux<FlightSummary> findDepartureSummaries(LocalDateTime start, LocalDateTime end) {
+        return mongoTemplate.aggregate(FlightQueries.summaries(FlightQueries.departureRange(start, end)), FlightSummary.class);
+    }
+
+    @Override
+    public Mono<Void> deleteRecordingEvent(Flight flight) {
+        List<FlightEvent> events = FlightQueries.deletionEvents(flight);
+        return Flux.fromIterable(events)
+                .concatMap(mongoTemplate::save)
+                .then(mongoTemplate.remove(FlightQueries.unchanged(flight), Flight.class))
+                .flatMap(result -> result.getDeletedCount() > 0
+                        ? Mono.<Void>empty()
+                        : mongoTemplate.remove(FlightQueries.eventsById(events), FlightEvent.class)
+                                .then(Mono.error(new OptimisticLockingFailureException(
+                                        "Flight " + flight.getFlightNumber() + " changed during delete"))));
+    }
+
+    private boolean seatReferences() {
+        return passengerStorage.getMode() == PassengerStorageProperties.Mode.REFERENCE;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.airpot.repository.reactive;
+
+import com.example.airpot.domain.Passenger;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link com.example.airpot.repository.PassengerRepository}.
+ *
+ */
+public interface ReactivePassengerRepository extends ReactiveMongoRepository<Passenger, String> {
+
+    Flux<Passenger> findByName(String name);
+
+    @Query("{'seatAssignment.seatNumber': ?0}")
+    Mono<Passenger> findBySeatNumber(String seatNumber);
+
+    @Query("{'seatAssignment.seatClass': ?0}")
+    Flux<Passenger> findBySeatClass(String seatClass);
+}
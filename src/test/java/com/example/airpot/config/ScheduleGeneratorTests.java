@@ -0,0 +1,71 @@
+package com.example.airpot.config;
+
+import com.example.airpot.domain.Flight;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleGeneratorTests {
+
+    private static final LocalDate START_DATE = LocalDate.of(2025, 3, 1);
+
+    @Test
+    void sameSeedAndStartDateGenerateTheSameBatchesInAnyOrder() {
+        ScheduleGenerator generator = generator(42L);
+        ScheduleGenerator other = generator(42L);
+        assertThat(generator.batchCount()).isEqualTo(5);
+
+        for (int index = generator.batchCount() - 1; index >= 0; index--) {
+            // the other generator has already produced a different batch before this one
+            describe(other.batch((index + 2) % other.batchCount()));
+            assertThat(describe(other.batch(index))).isEqualTo(describe(generator.batch(index)));
+        }
+    }
+
+    @Test
+    void batchesHaveDistinctIdsAndFlightsCarryTheirPassengers() {
+        ScheduleGenerator generator = generator(42L);
+        List<String> flightIds = new ArrayList<>();
+        for (int index = 0; index < generator.batchCount(); index++) {
+            ScheduleGenerator.Batch batch = generator.batch(index);
+            assertThat(batch.flights()).hasSize(10);
+            assertThat(batch.passengers())
+                    .containsExactlyElementsOf(batch.flights().stream().flatMap(f -> f.getPassengers().stream()).toList());
+            batch.flights().forEach(flight -> flightIds.add(flight.getId()));
+        }
+        assertThat(flightIds).doesNotHaveDuplicates().hasSize(50);
+    }
+
+    @Test
+    void differentSeedGeneratesDifferentBatches() {
+        ScheduleGenerator generator = generator(42L);
+        ScheduleGenerator other = generator(43L);
+
+        assertThat(describe(other.batch(0))).isNotEqualTo(describe(generator.batch(0)));
+    }
+
+    private static ScheduleGenerator generator(long seed) {
+        ScheduleGeneratorProperties properties = new ScheduleGeneratorProperties();
+        properties.setSeed(seed);
+        properties.setFlights(50);
+        properties.setBatchSize(10);
+        properties.setDays(5);
+        return new ScheduleGenerator(properties, new CabinLayoutProperties(), START_DATE);
+    }
+
+    /**
+     * Flights and passengers compare by id only, so batches are compared by their full string form.
+     */
+    private static List<String> describe(ScheduleGenerator.Batch batch) {
+        List<String> lines = new ArrayList<>();
+        for (Flight flight : batch.flights()) {
+            lines.add(flight.toString());
+            flight.getPassengers().forEach(passenger -> lines.add(passenger.toString()));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.airpot.controller;
+
+import com.example.airpot.domain.AuditClock;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domainservice.FlightService;
+import com.example.airpot.dto.FlightSummary;
+import com.example.airpot.factory.FlightFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FlightETagsTests {
+
+    private static final LocalDateTime MODIFIED = LocalDateTime.of(2030, 5, 1, 8, 30, 15, 250_000_000);
+
+    @Test
+    void flightETagIsVersionAndLastModified() {
+        Flight flight = flight("f1", 3, MODIFIED);
+
+        long millis = AuditClock.toInstant(MODIFIED).toEpochMilli();
+        assertThat(FlightETags.of(flight)).isEqualTo("\"3-" + millis + "\"");
+        assertThat(FlightETags.lastModified(flight)).isEqualTo(millis);
+        assertThat(headers(FlightETags.ok(flight)).getLastModified()).isEqualTo(millis / 1000 * 1000);
+    }
+
+    @Test
+    void flightWithoutLastModifiedHasNoLastModifiedHeader() {
+        Flight flight = flight("f1", 3, null);
+
+        assertThat(FlightETags.of(flight)).isEqualTo("\"3--1\"");
+        assertThat(FlightETags.lastModified(flight)).isEqualTo(-1);
+        HttpHeaders headers = headers(FlightETags.ok(flight));
+        assertThat(headers.getETag()).isEqualTo("\"3--1\"");
+        assertThat(headers.containsKey(HttpHeaders.LAST_MODIFIED)).isFalse();
+    }
+
+    @Test
+    void listETagChangesWithOrderReplacementAndRemoval() {
+        Flight a = flight("a", 1, MODIFIED);
+        Flight b = flight("b", 1, MODIFIED.minusHours(1));
+        Flight c = flight("c", 1, MODIFIED.minusHours(2));
+        String etag = listETag(List.of(a, b, c));
+
+        assertThat(listETag(List.of(a, b, c))).isEqualTo(etag);
+        assertThat(listETag(List.of(b, a, c))).as("reordered").isNotEqualTo(etag);
+        assertThat(listETag(List.of(a, b, flight("d", 1, c.getLastModifiedAt())))).as("replaced").isNotEqualTo(etag);
+        assertThat(listETag(List.of(a, b, flight("c", 2, c.getLastModifiedAt())))).as("changed").isNotEqualTo(etag);
+        assertThat(listETag(List.of(a, c))).as("removed").isNotEqualTo(etag);
+    }
+
+    @Test
+    void listLastModifiedIsTheLatestAndSkipsMissingValues() {
+        Flight unsaved = flight("x", 0, null);
+        HttpHeaders headers = headers(FlightETags.okFlights(List.of(flight("a", 1, MODIFIED.minusDays(1)), unsaved,
+                flight("b", 1, MODIFIED))));
+
+        assertThat(headers.getLastModified()).isEqualTo(AuditClock.toInstant(MODIFIED).toEpochMilli() / 1000 * 1000);
+        assertThat(headers(FlightETags.okFlights(List.of(unsaved))).containsKey(HttpHeaders.LAST_MODIFIED)).isFalse();
+        assertThat(headers(FlightETags.okFlights(List.of())).getETag()).startsWith("\"-1-0-");
+    }
+
+    @Test
+    void summaryListETagChangesWithCounts() {
+        FlightSummary summary = FlightSummary.builder().id("a").flightNumber("AP101").passengerCount(3)
+                .lastModifiedAt(MODIFIED).build();
+        FlightSummary booked = FlightSummary.builder().id("a").flightNumber("AP101").passengerCount(4)
+                .lastModifiedAt(MODIFIED).build();
+
+        assertThat(headers(FlightETags.okSummaries(List.of(summary))).getETag())
+                .isNotEqualTo(headers(FlightETags.okSummaries(List.of(booked))).getETag());
+    }
+
+    @Test
+    void okFlightResponseDescribesTheFlightReturned() throws Exception {
+        FlightService flightService = mock(FlightService.class);
+        Flight checked = flight("f1", 3, MODIFIED);
+        Flight returned = flight("f1", 4, MODIFIED.plusSeconds(5));
+        when(flightService.getFlightValidators("AP101")).thenReturn(checked);
+        when(flightService.getFlightWithPassengers("AP101")).thenReturn(returned);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+                new FlightController(flightService, mock(FlightFactory.class), new ObjectMapper())).build();
+
+        MvcResult result = mockMvc.perform(get("/api/flights/AP101").header(HttpHeaders.IF_NONE_MATCH, "\"2-0\""))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getHeaders(HttpHeaders.ETAG)).containsExactly(FlightETags.of(returned));
+        assertThat(result.getResponse().getDateHeader(HttpHeaders.LAST_MODIFIED))
+                .isEqualTo(AuditClock.toInstant(MODIFIED.plusSeconds(5)).toEpochMilli() / 1000 * 1000);
+
+        mockMvc.perform(get("/api/flights/AP101").header(HttpHeaders.IF_NONE_MATCH, FlightETags.of(checked)))
+                .andExpect(status().isNotModified());
+    }
+
+    private static String listETag(List<Flight> flights) {
+        return headers(FlightETags.okFlights(flights)).getETag();
+    }
+
+    private static HttpHeaders headers(ResponseEntity.BodyBuilder builder) {
+        return builder.build().getHeaders();
+    }
+
+    private static Flight flight(String id, long version, LocalDateTime lastModifiedAt) {
+        return Flight.builder()
+                .id(id)
+                .flightNumber("AP101")
+                .version(version)
+                .lastModifiedAt(lastModifiedAt)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.airpot.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatOccupancyTests {
+
+    @Test
+    void mapsSeatNumbersAtTheEdgesOfTheCabin() {
+        assertThat(SeatOccupancy.indexOf("1A")).isZero();
+        assertThat(SeatOccupancy.indexOf("1F")).isEqualTo(5);
+        assertThat(SeatOccupancy.indexOf("2A")).isEqualTo(6);
+        assertThat(SeatOccupancy.indexOf("10C")).isEqualTo(56);
+        assertThat(SeatOccupancy.indexOf("99F")).isEqualTo(SeatOccupancy.CAPACITY - 1);
+    }
+
+    @Test
+    void rejectsWhatTheSeatNumberPatternRejects() {
+        for (String seatNumber : new String[] {null, "", "A", "1", "0A", "05A", "00A", "100A", "1G", "1a", "A1", "1-A", " 1A"}) {
+            assertThat(SeatOccupancy.indexOf(seatNumber)).as(seatNumber).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void tracksSeatsAcrossWordBoundaries() {
+        SeatOccupancy occupancy = new SeatOccupancy();
+        int[] seats = {0, 63, 64, 127, 128, SeatOccupancy.CAPACITY - 1};
+
+        for (int seat : seats) {
+            assertThat(occupancy.occupy(seat)).isTrue();
+        }
+        for (int seat : seats) {
+            assertThat(occupancy.occupy(seat)).isFalse();
+            assertThat(occupancy.isOccupied(seat)).isTrue();
+        }
+        assertThat(occupancy.isOccupied(1)).isFalse();
+        assertThat(occupancy.isOccupied(62)).isFalse();
+        assertThat(occupancy.isOccupied(65)).isFalse();
+        assertThat(occupancy.occupiedCount()).isEqualTo(seats.length);
+        assertThat(occupancy.occupiedCount(63, 65)).isEqualTo(2);
+        assertThat(occupancy.occupiedCount(1, 63)).isZero();
+
+        occupancy.release(64);
+        occupancy.release(64);
+
+        assertThat(occupancy.isOccupied(64)).isFalse();
+        assertThat(occupancy.isOccupied(63)).isTrue();
+        assertThat(occupancy.occupiedCount()).isEqualTo(seats.length - 1);
+    }
+
+    @Test
+    void writesRangeAsBitmap() {
+        SeatOccupancy occupancy = new SeatOccupancy();
+        occupancy.occupy(60);
+        occupancy.occupy(67);
+        occupancy.occupy(68);
+
+        assertThat(occupancy.toBitmap(60, 69)).containsExactly(0b1000_0001, 0b1);
+        assertThat(occupancy.toBitmap(61, 61)).isEmpty();
+    }
+
+    @Test
+    void copyIsIndependent() {
+        SeatOccupancy occupancy = new SeatOccupancy();
+        occupancy.occupy(7);
+        SeatOccupancy copy = occupancy.copy();
+
+        copy.occupy(8);
+        occupancy.release(7);
+
+        assertThat(copy.isOccupied(7)).isTrue();
+        assertThat(occupancy.isOccupied(8)).isFalse();
+    }
+
+    @Test
+    void buildsOccupancyFromPassengersWithSeats() {
+        Passenger seated = Passenger.builder().name("Ada").seatAssignment(SeatAssignment.of("12A", "Economy")).build();
+        Passenger unseated = Passenger.builder().name("Grace").build();
+
+        SeatOccupancy occupancy = SeatOccupancy.of(List.of(seated, unseated));
+
+        assertThat(occupancy.occupiedCount()).isEqualTo(1);
+        assertThat(occupancy.isOccupied(SeatOccupancy.indexOf("12A"))).isTrue();
+    }
+}
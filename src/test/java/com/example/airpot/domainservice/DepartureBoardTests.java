@@ -0,0 +1,88 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.config.DepartureBoardProperties;
+import com.example.airpot.domain.SeatOccupancy;
+import com.example.airpot.dto.FlightSummary;
+import com.example.airpot.repository.FlightRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DepartureBoardTests {
+
+    private static final long LOADED_VERSION = 5;
+
+    private final LocalDateTime departure = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusHours(2);
+
+    private DepartureBoard departureBoard;
+
+    @BeforeEach
+    void setUp() {
+        FlightRepository flightRepository = mock(FlightRepository.class);
+        when(flightRepository.findDepartureSummaries(any(), any())).thenReturn(List.of(FlightSummary.builder()
+                .id("f1")
+                .flightNumber("AP101")
+                .origin("Zurich")
+                .destination("Athens")
+                .scheduledDeparture(departure)
+                .scheduledArrival(departure.plusHours(3))
+                .passengerCount(10)
+                .seatsAvailable(SeatOccupancy.CAPACITY - 10)
+                .version(LOADED_VERSION)
+                .build()));
+        departureBoard = new DepartureBoard(flightRepository, new DepartureBoardProperties(), new SimpleMeterRegistry());
+        departureBoard.rebuild();
+    }
+
+    @Test
+    void ignoresChangesTheLoadedVersionAlreadyReflects() {
+        departureBoard.passengersChanged("AP101", 1, LOADED_VERSION);
+        departureBoard.passengersChanged("AP101", 1, LOADED_VERSION - 1);
+
+        assertThat(summary().getPassengerCount()).isEqualTo(10);
+    }
+
+    @Test
+    void countsEachNewerChangeOnce() {
+        departureBoard.passengersChanged("AP101", 1, LOADED_VERSION + 1);
+        assertThat(summary().getPassengerCount()).isEqualTo(11);
+
+        departureBoard.passengersChanged("AP101", 1, LOADED_VERSION + 2);
+        FlightSummary summary = summary();
+        assertThat(summary.getPassengerCount()).isEqualTo(12);
+        assertThat(summary.getSeatsAvailable()).isEqualTo(SeatOccupancy.CAPACITY - 12);
+        assertThat(summary.getVersion()).isEqualTo(LOADED_VERSION);
+    }
+
+    @Test
+    void countsChangesAppliedOutOfOrder() {
+        departureBoard.passengersChanged("AP101", -1, LOADED_VERSION + 2);
+        departureBoard.passengersChanged("AP101", 1, LOADED_VERSION + 1);
+        departureBoard.passengersChanged("AP101", 1, LOADED_VERSION);
+
+        assertThat(summary().getPassengerCount()).isEqualTo(10);
+    }
+
+    @Test
+    void removedFlightIsNotServed() {
+        departureBoard.remove("AP101");
+        departureBoard.passengersChanged("AP101", 1, LOADED_VERSION + 1);
+
+        assertThat(departureBoard.find(departure.minusMinutes(1), departure.plusMinutes(1))).hasValue(List.of());
+    }
+
+    private FlightSummary summary() {
+        List<FlightSummary> summaries = departureBoard.find(departure, departure).orElseThrow();
+        assertThat(summaries).hasSize(1);
+        return summaries.get(0);
+    }
+}
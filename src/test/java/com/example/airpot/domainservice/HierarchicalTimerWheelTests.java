@@ -0,0 +1,138 @@
+package com.example.airpot.domainservice;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Uses a small wheel, 4 buckets on 2 levels with 1 ms ticks, so level 0 spans 4 ticks and the
+ * whole wheel 16: timeouts cascade, wrap and overflow within a few dozen ticks.
+ */
+class HierarchicalTimerWheelTests {
+
+    private final HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1, 2, 2, 0);
+
+    @Test
+    void firesOnTheFirstAdvanceReachingTheDeadline() {
+        wheel.schedule("a", 3);
+
+        assertThat(wheel.advance(2)).isEmpty();
+        assertThat(wheel.advance(3)).containsExactly("a");
+        assertThat(wheel.advance(10)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void roundsDeadlinesUpToTheNextTick() {
+        HierarchicalTimerWheel<String> coarse = new HierarchicalTimerWheel<>(10, 2, 2, 0);
+        coarse.schedule("a", 15);
+        coarse.schedule("b", 20);
+
+        assertThat(coarse.advance(19)).isEmpty();
+        assertThat(coarse.advance(20)).containsExactly("a", "b");
+    }
+
+    @Test
+    void firesPastDeadlinesOnTheNextTick() {
+        wheel.advance(5);
+        wheel.schedule("late", 2);
+
+        assertThat(wheel.advance(5)).isEmpty();
+        assertThat(wheel.advance(6)).containsExactly("late");
+    }
+
+    @Test
+    void cascadesFromTheUpperLevel() {
+        wheel.schedule("a", 9);
+        wheel.schedule("b", 13);
+
+        assertThat(wheel.advance(8)).isEmpty();
+        assertThat(wheel.advance(9)).containsExactly("a");
+        assertThat(wheel.advance(12)).isEmpty();
+        assertThat(wheel.advance(13)).containsExactly("b");
+    }
+
+    @Test
+    void parksDeadlinesBeyondTheRangeUntilTheyAreInRange() {
+        wheel.schedule("far", 100);
+        wheel.schedule("near", 5);
+
+        assertThat(wheel.advance(5)).containsExactly("near");
+        for (long now = 6; now < 100; now++) {
+            assertThat(wheel.advance(now)).as("advance to %d", now).isEmpty();
+        }
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(100)).containsExactly("far");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void keepsDeadlinesAcrossALevelWrap() {
+        // the top level wraps at tick 16; schedule near the end of the first revolution
+        wheel.advance(14);
+        wheel.schedule("a", 16);
+        wheel.schedule("b", 17);
+        wheel.schedule("c", 28);
+        wheel.schedule("d", 29);
+
+        assertThat(wheel.advance(15)).isEmpty();
+        assertThat(wheel.advance(16)).containsExactly("a");
+        assertThat(wheel.advance(27)).containsExactly("b");
+        assertThat(wheel.advance(29)).containsExactly("c", "d");
+    }
+
+    @Test
+    void dropsCancelledTimeouts() {
+        HierarchicalTimerWheel.Timeout<String> near = wheel.schedule("near", 2);
+        HierarchicalTimerWheel.Timeout<String> upper = wheel.schedule("upper", 10);
+        HierarchicalTimerWheel.Timeout<String> far = wheel.schedule("far", 50);
+        wheel.schedule("kept", 10);
+        near.cancel();
+        upper.cancel();
+        far.cancel();
+
+        assertThat(wheel.size()).isEqualTo(4);
+        assertThat(wheel.advance(60)).containsExactly("kept");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void matchesBruteForceExpiryOverManyRevolutions() {
+        Random random = new Random(42);
+        Map<String, Long> deadlines = new HashMap<>();
+        long now = 0;
+        for (int i = 0; i < 2_000; i++) {
+            deadlines.put("t" + i, now + random.nextInt(80) - 5);
+            wheel.schedule("t" + i, deadlines.get("t" + i));
+            if (random.nextInt(4) == 0) {
+                long previous = now;
+                now += random.nextInt(20);
+                List<String> expected = new ArrayList<>();
+                for (Map.Entry<String, Long> deadline : deadlines.entrySet()) {
+                    // a deadline already passed when scheduled fires on the next tick
+                    if (deadline.getValue() <= now && now > previous) {
+                        expected.add(deadline.getKey());
+                    }
+                }
+                assertThat(wheel.advance(now)).as("advance to %d", now).containsExactlyInAnyOrderElementsOf(expected);
+                expected.forEach(deadlines::remove);
+            }
+        }
+        assertThat(wheel.size()).isEqualTo(deadlines.size());
+    }
+
+    @Test
+    void rejectsInvalidGeometry() {
+        assertThatThrownBy(() -> new HierarchicalTimerWheel<>(0, 2, 2, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimerWheel<>(1, 0, 2, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimerWheel<>(1, 2, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimerWheel<>(1, 21, 3, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
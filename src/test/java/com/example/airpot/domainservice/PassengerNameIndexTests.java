@@ -0,0 +1,130 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.domain.Passenger;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PassengerNameIndexTests {
+
+    private static final String COLLECTION = "passengers";
+
+    private final List<Document> stored = new ArrayList<>();
+    private PassengerNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getCollectionName(Passenger.class)).thenReturn(COLLECTION);
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq(COLLECTION)))
+                .thenAnswer(invocation -> stored.stream());
+        index = new PassengerNameIndex(mongoTemplate);
+        index.load();
+    }
+
+    @Test
+    void normalizeFoldsCaseAccentsAndWhitespace() {
+        assertThat(PassengerNameIndex.normalize("  José   ÁLVAREZ\t")).isEqualTo("jose alvarez");
+        assertThat(PassengerNameIndex.normalize("Zoë\nMüller")).isEqualTo("zoe muller");
+        assertThat(PassengerNameIndex.normalize("   ")).isEmpty();
+        assertThat(PassengerNameIndex.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void searchWalksThePrefixRangeInNameOrderUpToTheLimit() {
+        String anna = save("Anna Smith");
+        String ann = save("Ann Lee");
+        String annette = save("Annette Dubois");
+        save("Andrew Kim");
+        save("Bob Ann");
+
+        assertThat(index.search("ann", 10)).containsExactly(ann, anna, annette);
+        assertThat(index.search("ann", 2)).containsExactly(ann, anna);
+        assertThat(index.search("anna s", 10)).containsExactly(anna);
+        assertThat(index.search("annz", 10)).isEmpty();
+    }
+
+    @Test
+    void prefixDoesNotMatchAcrossTheSeparatorIntoTheId() {
+        String id = new ObjectId("65f0000000000000000000a1").toHexString();
+        save(id, "Al");
+
+        assertThat(index.search("al", 10)).containsExactly(id);
+        assertThat(index.search("al6", 10)).isEmpty();
+        assertThat(index.search("al ", 10)).isEmpty();
+    }
+
+    @Test
+    void renamedPassengerIsFoundOnlyUnderTheNewName() {
+        String id = save("Ama Mensah");
+        save(id, "Ama Boateng");
+
+        assertThat(index.search("ama", 10)).containsExactly(id);
+        assertThat(index.search("ama m", 10)).isEmpty();
+    }
+
+    @Test
+    void deleteByIdRemovesThePassenger() {
+        String id = save("Kwame Mensah");
+
+        delete(new Document("_id", new ObjectId(id)));
+
+        assertThat(index.search("kwame", 10)).isEmpty();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    void deleteByIdsRemovesEachPassenger() {
+        String first = save("Wei Chen");
+        String second = save("Wei Tanaka");
+        String kept = save("Wei Kim");
+
+        delete(new Document("_id", new Document("$in", List.of(new ObjectId(first), new ObjectId(second)))));
+
+        assertThat(index.search("wei", 10)).containsExactly(kept);
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    void deleteByOtherCriteriaMarksTheIndexStaleUntilRebuilt() {
+        save("Olga Ivanova");
+        String kept = new ObjectId().toHexString();
+        stored.add(new Document("_id", new ObjectId(kept)).append("name", "Olga Rossi").append(PassengerNameIndex.NAME_KEY, "olga rossi"));
+
+        delete(new Document("name", "Olga Ivanova"));
+
+        assertThat(index.isReady()).isFalse();
+        index.rebuildIfStale();
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("olga", 10)).containsExactly(kept);
+    }
+
+    private String save(String name) {
+        return save(new ObjectId().toHexString(), name);
+    }
+
+    private String save(String id, String name) {
+        Passenger passenger = Passenger.builder().id(id).name(name).build();
+        index.onAfterSave(new AfterSaveEvent<>(passenger, new Document(), COLLECTION));
+        return id;
+    }
+
+    private void delete(Document criteria) {
+        index.onAfterDelete(new AfterDeleteEvent<>(criteria, Passenger.class, COLLECTION));
+    }
+}
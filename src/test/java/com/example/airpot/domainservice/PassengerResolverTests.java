@@ -0,0 +1,91 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.FlightEvent;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.repository.PassengerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PassengerResolverTests {
+
+    private static final String REFERENCED_ID = "65f0000000000000000000a1";
+    private static final String EMBEDDED_ID = "65f0000000000000000000a2";
+
+    private PassengerRepository passengerRepository;
+    private PassengerResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        passengerRepository = mock(PassengerRepository.class);
+        resolver = new PassengerResolver(passengerRepository);
+        when(passengerRepository.findById(REFERENCED_ID))
+                .thenReturn(Optional.of(passenger(REFERENCED_ID, "Ama Mensah", "12A", "Economy")));
+    }
+
+    @Test
+    void resolvesOnlyTheGivenSeatReference() {
+        Flight flight = flight(
+                Passenger.builder().id(REFERENCED_ID).seatAssignment(SeatAssignment.of("12A", null)).build(),
+                passenger(EMBEDDED_ID, "Wei Chen", "12B", "Economy"));
+
+        resolver.resolve(flight, REFERENCED_ID);
+
+        assertThat(flight.getPassengers()).extracting(Passenger::getName).containsExactly("Ama Mensah", "Wei Chen");
+        assertThat(flight.isSeatTaken("12A")).isTrue();
+    }
+
+    @Test
+    void removedReferencedPassengerIsNamedInTheEvent() {
+        Flight flight = flight(
+                Passenger.builder().id(REFERENCED_ID).seatAssignment(SeatAssignment.of("12A", null)).build());
+
+        assertThat(resolver.resolve(flight, REFERENCED_ID).removePassenger(REFERENCED_ID)).isTrue();
+
+        assertThat(flight.getEvents()).singleElement().satisfies(event -> {
+            assertThat(event.getType()).isEqualTo(FlightEvent.Type.PASSENGER_REMOVED);
+            assertThat(event.getPassengerName()).isEqualTo("Ama Mensah");
+        });
+        assertThat(flight.isSeatTaken("12A")).isFalse();
+    }
+
+    @Test
+    void embeddedOrUnknownPassengersAreNotLoaded() {
+        Flight flight = flight(passenger(EMBEDDED_ID, "Wei Chen", "12B", "Economy"));
+
+        resolver.resolve(flight, EMBEDDED_ID);
+        resolver.resolve(flight, REFERENCED_ID);
+
+        verify(passengerRepository, never()).findById(any());
+        assertThat(flight.getPassengers()).extracting(Passenger::getName).containsExactly("Wei Chen");
+    }
+
+    private static Flight flight(Passenger... passengers) {
+        return Flight.builder()
+                .flightNumber("KQ1001")
+                .origin("ACC")
+                .destination("JNB")
+                .passengers(new ArrayList<>(List.of(passengers)))
+                .build();
+    }
+
+    private static Passenger passenger(String id, String name, String seatNumber, String seatClass) {
+        return Passenger.builder()
+                .id(id)
+                .name(name)
+                .seatAssignment(SeatAssignment.of(seatNumber, seatClass))
+                .build();
+    }
+}
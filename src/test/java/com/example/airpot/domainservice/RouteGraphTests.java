@@ -0,0 +1,122 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.config.RouteGraphProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.dto.Itinerary;
+import com.example.airpot.repository.FlightRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RouteGraphTests {
+
+    private static final LocalDateTime T = LocalDateTime.of(2030, 1, 1, 8, 0);
+    private static final Duration MIN_LAYOVER = Duration.ofMinutes(45);
+    private static final Duration MAX_LAYOVER = Duration.ofHours(6);
+
+    private RouteGraph routeGraph;
+
+    @BeforeEach
+    void setUp() {
+        FlightRepository flightRepository = mock(FlightRepository.class);
+        when(flightRepository.streamSchedules()).thenReturn(Stream.of(
+                flight("D1", "ZRH", "ATH", T, T.plusHours(3)),
+                flight("D2", "ZRH", "ATH", T.plusHours(4), T.plusHours(5)),
+                flight("L1", "ZRH", "VIE", T, T.plusHours(1)),
+                // leaves exactly the minimum layover after L1 lands
+                flight("L2", "VIE", "ATH", T.plusMinutes(105), T.plusMinutes(210)),
+                // one minute short of the minimum layover
+                flight("L3", "VIE", "ATH", T.plusMinutes(104), T.plusMinutes(150)),
+                // leaves exactly the maximum layover after L1 lands
+                flight("L4", "VIE", "ATH", T.plusHours(7), T.plusHours(9)),
+                // one minute past the maximum layover
+                flight("L5", "VIE", "ATH", T.plusMinutes(421), T.plusHours(8)),
+                // back to the origin, from where D2 would complete the trip
+                flight("B1", "VIE", "ZRH", T.plusHours(2), T.plusHours(3)),
+                // missing times: not part of the graph
+                flight("X1", "ZRH", "ATH", null, null)));
+        routeGraph = new RouteGraph(flightRepository, new RouteGraphProperties());
+        routeGraph.rebuild();
+    }
+
+    @Test
+    void findsDirectAndConnectingFlightsWithinLayoverBounds() {
+        List<Itinerary> itineraries = find(T, T, 3, 10);
+
+        assertThat(itineraries).extracting(RouteGraphTests::flightNumbers)
+                .containsExactly(List.of("D1"), List.of("L1", "L2"), List.of("L1", "L4"));
+        assertThat(itineraries.get(1).getTotalMinutes()).isEqualTo(210);
+        assertThat(itineraries.get(1).getArrival()).isEqualTo(T.plusMinutes(210));
+    }
+
+    @Test
+    void departureWindowIsInclusive() {
+        assertThat(find(T.plusHours(4), T.plusHours(4), 3, 10)).extracting(RouteGraphTests::flightNumbers)
+                .containsExactly(List.of("D2"));
+        assertThat(find(T.plusMinutes(1), T.plusMinutes(239), 3, 10)).isEmpty();
+    }
+
+    @Test
+    void limitsLegsAndResults() {
+        assertThat(find(T, T, 1, 10)).extracting(RouteGraphTests::flightNumbers)
+                .containsExactly(List.of("D1"));
+        assertThat(find(T, T, 3, 1)).extracting(RouteGraphTests::flightNumbers)
+                .containsExactly(List.of("D1"));
+        assertThat(find(T, T.plusHours(4), 3, 2)).extracting(RouteGraphTests::flightNumbers)
+                .containsExactly(List.of("D1"), List.of("L1", "L2"));
+    }
+
+    @Test
+    void appliesRescheduledAndRemovedFlights() {
+        routeGraph.add(flight("L2", "VIE", "ATH", T.plusMinutes(90), T.plusMinutes(200)));
+        routeGraph.remove("D1");
+
+        assertThat(find(T, T, 3, 10)).extracting(RouteGraphTests::flightNumbers)
+                .containsExactly(List.of("L1", "L4"));
+    }
+
+    @Test
+    void rejectsInconsistentSearches() {
+        assertThatThrownBy(() -> routeGraph.findConnections("ZRH", "ZRH", T, T, MIN_LAYOVER, MAX_LAYOVER, 3, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> find(T.plusMinutes(1), T, 3, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> routeGraph.findConnections("ZRH", "ATH", T, T, MAX_LAYOVER, MIN_LAYOVER, 3, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> find(T, T, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> find(T, T, new RouteGraphProperties().getMaxLegs() + 1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> find(T, T, 3, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Itinerary> find(LocalDateTime departAfter, LocalDateTime departBefore, int maxLegs, int limit) {
+        return routeGraph.findConnections("ZRH", "ATH", departAfter, departBefore, MIN_LAYOVER, MAX_LAYOVER,
+                maxLegs, limit);
+    }
+
+    private static List<String> flightNumbers(Itinerary itinerary) {
+        return itinerary.getLegs().stream().map(Itinerary.Leg::flightNumber).toList();
+    }
+
+    private static Flight flight(String flightNumber, String origin, String destination,
+                                 LocalDateTime departure, LocalDateTime arrival) {
+        return Flight.builder()
+                .flightNumber(flightNumber)
+                .origin(origin)
+                .destination(destination)
+                .scheduledDeparture(departure)
+                .scheduledArrival(arrival)
+                .build();
+    }
+}
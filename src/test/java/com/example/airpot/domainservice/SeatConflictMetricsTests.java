@@ -0,0 +1,120 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.cache.FlightCache;
+import com.example.airpot.config.CabinLayoutProperties;
+import com.example.airpot.config.FlightCacheProperties;
+import com.example.airpot.config.FlightRetryProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.HeldSeat;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.domain.SeatHold;
+import com.example.airpot.repository.FlightRepository;
+import com.example.airpot.repository.PassengerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatConflictMetricsTests {
+
+    private static final String FLIGHT_NUMBER = "KQ1001";
+
+    private MeterRegistry meterRegistry;
+    private FlightRepository flightRepository;
+    private FlightService flightService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        flightRepository = mock(FlightRepository.class);
+        when(flightRepository.existsByFlightNumber(FLIGHT_NUMBER)).thenReturn(true);
+        flightService = new FlightService(
+                flightRepository,
+                mock(PassengerRepository.class),
+                new OptimisticRetryExecutor(new FlightRetryProperties(), meterRegistry),
+                new FlightCache(new FlightCacheProperties(), meterRegistry),
+                mock(RouteGraph.class),
+                new FlightMetrics(meterRegistry),
+                new CabinLayoutProperties(),
+                mock(DepartureBoard.class),
+                mock(PassengerResolver.class));
+    }
+
+    @Test
+    void batchRejectionsAreCountedByReason() {
+        Flight flight = Flight.builder()
+                .flightNumber(FLIGHT_NUMBER)
+                .passengers(new ArrayList<>(List.of(passenger("12A"))))
+                .seatHolds(new ArrayList<>(List.of(new HeldSeat("h1", "14C", Instant.now().plusSeconds(600)))))
+                .build();
+        when(flightRepository.findByFlightNumber(FLIGHT_NUMBER)).thenReturn(Optional.of(flight));
+        when(flightRepository.addPassengersIfSeatsAvailable(eq(FLIGHT_NUMBER), anyList())).thenReturn(Optional.of(2L));
+        Passenger withoutSeatNumber = Passenger.builder().name("No Seat").seatAssignment(SeatAssignment.of(null, "Economy")).build();
+
+        flightService.addPassengersToFlight(FLIGHT_NUMBER, List.of(
+                passenger("12A"), passenger("14C"), passenger("15D"), passenger("15D"), withoutSeatNumber));
+
+        assertThat(conflicts("batch", "assigned")).isEqualTo(2);
+        assertThat(conflicts("batch", "held")).isEqualTo(1);
+        assertThat(conflicts("batch", "invalid")).isEqualTo(1);
+        assertThat(conflicts("single", "assigned")).isZero();
+    }
+
+    @Test
+    void singleBookingOfAHeldSeatIsCountedAsHeld() {
+        when(flightRepository.addPassengerIfSeatAvailable(eq(FLIGHT_NUMBER), any(), isNull())).thenReturn(Optional.empty());
+        when(flightRepository.isSeatHeld(FLIGHT_NUMBER, "14C", null)).thenReturn(true);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> flightService.addPassengerToFlight(FLIGHT_NUMBER, passenger("14C")))
+                .withMessage("Seat 14C is on hold");
+
+        assertThat(conflicts("single", "held")).isEqualTo(1);
+        assertThat(conflicts("single", "assigned")).isZero();
+    }
+
+    @Test
+    void failedHoldIsNotCountedAsABooking() {
+        when(flightRepository.addSeatHoldIfSeatAvailable(eq(FLIGHT_NUMBER), any())).thenReturn(false);
+        SeatHold hold = SeatHold.builder().id("h2").flightNumber(FLIGHT_NUMBER).seatNumber("12A")
+                .expiresAt(Instant.now().plusSeconds(600)).build();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> flightService.recordSeatHold(hold))
+                .withMessage("Seat 12A is already assigned");
+
+        assertThat(conflicts("hold", "assigned")).isEqualTo(1);
+        assertThat(conflicts("single", "assigned")).isZero();
+    }
+
+    private double conflicts(String operation, String reason) {
+        Counter counter = meterRegistry.get(FlightMetrics.SEAT_CONFLICTS)
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .counter();
+        return counter.count();
+    }
+
+    private static Passenger passenger(String seatNumber) {
+        return Passenger.builder()
+                .name("Ama Mensah")
+                .seatAssignment(SeatAssignment.of(seatNumber, "Economy"))
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.airpot.domainservice;
+
+import com.example.airpot.config.SeatHoldProperties;
+import com.example.airpot.domain.SeatHold;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatHoldRegistryTests {
+
+    private static final Duration TICK = Duration.ofMillis(10);
+
+    private SeatHoldRegistry registry;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        SeatHoldProperties properties = new SeatHoldProperties();
+        properties.setTick(TICK);
+        registry = new SeatHoldRegistry(properties);
+        now = Instant.now();
+    }
+
+    @Test
+    void expiresHoldsAfterTheirDeadline() {
+        SeatHold hold = hold("h1", "12A", now.plusSeconds(5));
+        registry.add(hold);
+
+        assertThat(registry.find("h1")).contains(hold);
+        assertThat(registry.expire(hold.getExpiresAt().minus(TICK))).isEmpty();
+        assertThat(registry.expire(hold.getExpiresAt().plus(TICK))).containsExactly(hold);
+        assertThat(registry.find("h1")).isEmpty();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void removedHoldsDoNotExpire() {
+        SeatHold hold = hold("h1", "12A", now.plusSeconds(5));
+        registry.add(hold);
+
+        assertThat(registry.remove("h1")).contains(hold);
+        assertThat(registry.remove("h1")).isEmpty();
+        assertThat(registry.expire(now.plusSeconds(60))).isEmpty();
+    }
+
+    @Test
+    void reHeldSeatReplacesThePreviousHold() {
+        SeatHold first = hold("h1", "12A", now.plusSeconds(1));
+        SeatHold second = hold("h2", "12A", now.plusSeconds(5));
+        SeatHold other = hold("h3", "12B", now.plusSeconds(1));
+        registry.add(first);
+        registry.add(other);
+        registry.add(second);
+
+        assertThat(registry.find("h1")).isEmpty();
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.expire(now.plusSeconds(2))).containsExactly(other);
+        assertThat(registry.find("h2")).contains(second);
+        assertThat(registry.expire(now.plusSeconds(6))).containsExactly(second);
+    }
+
+    @Test
+    void expiresHoldsBeyondTheRangeOfTheWheel() {
+        // 3 levels of 64 buckets at 10 ms cover about 43 minutes
+        SeatHold hold = hold("h1", "12A", now.plus(Duration.ofHours(2)));
+        registry.add(hold);
+
+        assertThat(registry.expire(now.plus(Duration.ofMinutes(119)))).isEmpty();
+        assertThat(registry.expire(now.plus(Duration.ofMinutes(121)))).containsExactly(hold);
+    }
+
+    private static SeatHold hold(String id, String seatNumber, Instant expiresAt) {
+        return SeatHold.builder()
+                .id(id)
+                .flightNumber("AP101")
+                .seatNumber(seatNumber)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
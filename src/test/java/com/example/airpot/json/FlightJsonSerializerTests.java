@@ -0,0 +1,146 @@
+package com.example.airpot.json;
+
+import com.example.airpot.config.FlightJsonProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.FlightEvent;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the hand-written flight JSON, cached or not, is byte for byte what the bean
+ * serializers write with the application's Jackson settings.
+ */
+class FlightJsonSerializerTests {
+
+    private static final LocalDateTime DEPARTURE = LocalDateTime.of(2030, 5, 1, 8, 30);
+
+    private FlightJsonCache cache;
+    private ObjectMapper handWritten;
+    private ObjectMapper bean;
+
+    @BeforeEach
+    void setUp() {
+        FlightJsonProperties properties = new FlightJsonProperties();
+        cache = new FlightJsonCache(properties, new SimpleMeterRegistry());
+        handWritten = objectMapper().modulesToInstall(new FlightJsonModule(properties, cache)).build();
+        bean = objectMapper().build();
+    }
+
+    private static Jackson2ObjectMapperBuilder objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone("UTC");
+    }
+
+    @Test
+    void writesFlightWithoutPassengers() throws Exception {
+        assertSameBytes(flight(new ArrayList<>()));
+    }
+
+    @Test
+    void writesPassengersWithAndWithoutSeat() throws Exception {
+        Flight flight = flight(List.of(
+                passenger("p1", "Ada Lovelace", SeatAssignment.of("12A", "First Class")),
+                passenger("p2", "Ünal \"Quote\" Øster", null),
+                passenger("p3", "Grace Hopper", SeatAssignment.of("3F", "Economy"))));
+
+        assertSameBytes(flight);
+    }
+
+    @Test
+    void writesNullTimestamps() throws Exception {
+        Flight flight = flight(List.of(passenger("p1", "Ada Lovelace", SeatAssignment.of("1B", "Business"))));
+        flight.setId(null);
+        flight.setVersion(null);
+        flight.setCreatedAt(null);
+        flight.setLastModifiedAt(null);
+        flight.setScheduledArrival(null);
+        flight.getPassengers().get(0).setCreatedAt(null);
+
+        assertSameBytes(flight);
+    }
+
+    @Test
+    void writesPendingEventsAsEmptyList() throws Exception {
+        Flight flight = flight(new ArrayList<>());
+        flight.addPassenger(passenger("p1", "Ada Lovelace", SeatAssignment.of("12A", "Economy")));
+        assertThat(flight.getEvents()).isNotEmpty();
+
+        byte[] json = assertSameBytes(flight);
+
+        assertThat(new String(json)).contains("\"events\":[]");
+    }
+
+    @Test
+    void servesUnchangedFlightFromCacheAfterEventsAreDrained() throws Exception {
+        Flight flight = flight(new ArrayList<>());
+        flight.registerEvent(FlightEvent.passengerAdded(flight.getFlightNumber(),
+                passenger("p1", "Ada Lovelace", null)));
+        byte[] first = handWritten.writeValueAsBytes(flight);
+
+        flight.getEvents().clear();
+
+        assertThat(cache.get(flight)).isNotNull();
+        assertThat(handWritten.writeValueAsBytes(flight)).isEqualTo(first);
+        assertSameBytes(flight);
+    }
+
+    @Test
+    void rendersFlightAgainWhenItChanged() throws Exception {
+        Flight flight = flight(new ArrayList<>());
+        handWritten.writeValueAsBytes(flight);
+
+        flight.setVersion(flight.getVersion() + 1);
+        flight.setLastModifiedAt(flight.getLastModifiedAt().plusSeconds(1));
+        flight.setDestination("Lisbon");
+
+        assertSameBytes(flight);
+    }
+
+    private byte[] assertSameBytes(Flight flight) throws Exception {
+        byte[] expected = bean.writeValueAsBytes(flight);
+        byte[] actual = handWritten.writeValueAsBytes(flight);
+        assertThat(new String(actual)).isEqualTo(new String(expected));
+        assertThat(actual).isEqualTo(expected);
+        // written again: from the cache when the flight can be cached
+        assertThat(handWritten.writeValueAsBytes(flight)).isEqualTo(expected);
+        return actual;
+    }
+
+    private static Flight flight(List<Passenger> passengers) {
+        return Flight.builder()
+                .id("6650c0ffee0000000000abcd")
+                .flightNumber("AP101")
+                .origin("Zurich")
+                .destination("Athens")
+                .scheduledDeparture(DEPARTURE)
+                .scheduledArrival(DEPARTURE.plusHours(3).plusNanos(120_000_000))
+                .passengers(new ArrayList<>(passengers))
+                .version(3L)
+                .createdAt(DEPARTURE.minusDays(30))
+                .lastModifiedAt(DEPARTURE.minusDays(2).plusSeconds(17))
+                .build();
+    }
+
+    private static Passenger passenger(String id, String name, SeatAssignment seatAssignment) {
+        return Passenger.builder()
+                .id(id)
+                .name(name)
+                .seatAssignment(seatAssignment)
+                .createdAt(DEPARTURE.minusDays(5))
+                .lastModifiedAt(DEPARTURE.minusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.airpot.loadtest;
+
+import com.example.airpot.config.PassengerStorageProperties;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatOccupancy;
+import com.example.airpot.domainservice.PassengerResolver;
+import com.example.airpot.repository.FlightRepository;
+import com.example.airpot.repository.PassengerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repeatable contention test for passenger booking against an embedded MongoDB.
+ * Fires thousands of concurrent POST and DELETE passenger requests at a few hot flights,
+ * then reports throughput, latency percentiles and consistency violations.
+ * <p>
+ * Excluded from the default build; run with {@code mvn -Pload-test test}. Tunable through
+ * the system properties {@code loadtest.flights}, {@code loadtest.requests},
+ * {@code loadtest.concurrency}, {@code loadtest.preboarded} and {@code loadtest.seed}; the passenger
+ * storage layout under test is chosen with {@code -Dairpot.passenger-storage.mode=EMBEDDED|REFERENCE}.
+ *
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "airpot.metrics.flights.document-size-sample-rate=1")
+@ActiveProfiles("test")
+class BookingLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingLoadTest.class);
+    private static final String[] SEAT_CLASSES = {"Economy", "Business", "First Class"};
+
+    private final int flights = Integer.getInteger("loadtest.flights", 4);
+    private final int requests = Integer.getInteger("loadtest.requests", 4000);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 200);
+    private final int preboarded = Integer.getInteger("loadtest.preboarded", 100);
+    private final long seed = Long.getLong("loadtest.seed", 42L);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private PassengerRepository passengerRepository;
+
+    @Autowired
+    private PassengerResolver passengerResolver;
+
+    @Autowired
+    private PassengerStorageProperties passengerStorage;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LoadDriver loadDriver = new LoadDriver();
+
+    @Test
+    void concurrentBookingsAndRemovalsOnHotFlights() throws Exception {
+        String runId = Long.toString(System.currentTimeMillis(), 36).toUpperCase();
+        List<String> flightNumbers = new ArrayList<>();
+        Map<String, List<String>> removable = new HashMap<>();
+        for (int i = 0; i < flights; i++) {
+            String flightNumber = "LT" + runId.substring(Math.max(0, runId.length() - 6)) + i;
+            createFlight(flightNumber);
+            removable.put(flightNumber, preboard(flightNumber));
+            flightNumbers.add(flightNumber);
+        }
+
+        // plan the whole run up front so it is reproducible for a given seed
+        Random random = new Random(seed);
+        List<Call> calls = new ArrayList<>(requests);
+        Map<String, Integer> removalCursor = new HashMap<>();
+        for (int i = 0; i < requests; i++) {
+            String flightNumber = flightNumbers.get(random.nextInt(flights));
+            int cursor = removalCursor.getOrDefault(flightNumber, 0);
+            List<String> candidates = removable.get(flightNumber);
+            if (random.nextInt(4) == 0 && cursor < candidates.size()) {
+                calls.add(Call.removal(flightNumber, candidates.get(cursor)));
+                removalCursor.put(flightNumber, cursor + 1);
+            } else {
+                calls.add(Call.booking(flightNumber, "LT passenger " + i,
+                        seatNumber(random.nextInt(SeatOccupancy.CAPACITY)), SEAT_CLASSES[random.nextInt(3)]));
+            }
+        }
+
+        Set<String> bookedNames = ConcurrentHashMap.newKeySet();
+        Set<String> removedIds = ConcurrentHashMap.newKeySet();
+        LoadDriver.Result result = loadDriver.run(calls, call -> call.request(baseUrl()), concurrency, (call, status) -> {
+            if (status == 200) {
+                if (call.passengerId() != null) {
+                    removedIds.add(call.passengerId());
+                } else {
+                    bookedNames.add(call.name());
+                }
+            }
+        });
+
+        // consistency: every acknowledged write must be visible, and no seat may be held twice
+        int lostBookings = 0;
+        int lostRemovals = 0;
+        int doubleBookings = 0;
+        for (String flightNumber : flightNumbers) {
+            Flight flight = passengerResolver.resolve(flightRepository.findByFlightNumber(flightNumber).orElseThrow());
+            Set<String> names = new HashSet<>();
+            Set<String> ids = new HashSet<>();
+            Set<String> seats = new HashSet<>();
+            for (Passenger passenger : flight.getPassengers()) {
+                names.add(passenger.getName());
+                ids.add(passenger.getId());
+                if (passenger.hasSeatAssignment() && !seats.add(passenger.getSeatAssignment().getSeatNumber())) {
+                    doubleBookings++;
+                }
+            }
+            for (Call call : calls) {
+                if (!call.flightNumber().equals(flightNumber)) {
+                    continue;
+                }
+                if (call.passengerId() == null && bookedNames.contains(call.name()) && !names.contains(call.name())) {
+                    lostBookings++;
+                }
+                if (call.passengerId() != null && removedIds.contains(call.passengerId()) && ids.contains(call.passengerId())) {
+                    lostRemovals++;
+                }
+            }
+        }
+        // removed passengers must not linger in the passengers collection either
+        int orphanedPassengers = passengerRepository.findAllById(removedIds).size();
+        HistogramSnapshot documentSize = meterRegistry.get("flight.document.size").summary().takeSnapshot();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("flights", flights);
+        report.put("seed", seed);
+        report.put("passengerStorage", passengerStorage.getMode());
+        report.putAll(result.toReport());
+        report.put("lostBookings", lostBookings);
+        report.put("lostRemovals", lostRemovals);
+        report.put("doubleBookings", doubleBookings);
+        report.put("orphanedPassengers", orphanedPassengers);
+        report.put("flightDocumentBytesMean", Math.round(documentSize.mean()));
+        report.put("flightDocumentBytesMax", Math.round(documentSize.max()));
+        writeReport(report);
+
+        assertThat(lostBookings).as("acknowledged bookings missing from the manifest").isZero();
+        assertThat(lostRemovals).as("acknowledged removals still on the manifest").isZero();
+        assertThat(doubleBookings).as("seats held by more than one passenger").isZero();
+        assertThat(orphanedPassengers).as("removed passengers left in the passengers collection").isZero();
+    }
+
+    private void createFlight(String flightNumber) throws IOException, InterruptedException {
+        LocalDateTime departure = LocalDateTime.now().plusDays(1);
+        String body = objectMapper.writeValueAsString(Map.of(
+                "flightNumber", flightNumber,
+                "origin", "JFK",
+                "destination", "LAX",
+                "scheduledDeparture", departure.toString(),
+                "scheduledArrival", departure.plusHours(5).toString()));
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        assertThat(response.statusCode()).isEqualTo(201);
+    }
+
+    /**
+     * Boards the first seats of a flight in one batch and returns the passenger ids, to be removed under load.
+     */
+    private List<String> preboard(String flightNumber) throws IOException, InterruptedException {
+        List<Map<String, String>> passengers = new ArrayList<>();
+        for (int i = 0; i < preboarded; i++) {
+            passengers.add(Map.of("name", "Preboarded " + i, "seatNumber", seatNumber(i), "seatClass", "Economy"));
+        }
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl() + "/" + flightNumber + "/passengers/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("passengers", passengers))))
+                .build());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        List<String> ids = new ArrayList<>();
+        for (JsonNode result : objectMapper.readTree(response.body())) {
+            ids.add(result.get("passengerId").asText());
+        }
+        return ids;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return loadDriver.httpClient().send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void writeReport(Map<String, Object> report) throws IOException {
+        log.info("Booking load test report: {}", report);
+        Path target = Path.of("target", "loadtest-report.json");
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + port + "/api/flights";
+    }
+
+    private static String seatNumber(int seat) {
+        return (seat / SeatOccupancy.SEATS_PER_ROW + 1) + String.valueOf((char) ('A' + seat % SeatOccupancy.SEATS_PER_ROW));
+    }
+
+    /**
+     * One planned request: a booking (name and seat set) or a removal (passengerId set).
+     */
+    private record Call(String flightNumber, String name, String seatNumber, String seatClass, String passengerId) {
+
+        static Call booking(String flightNumber, String name, String seatNumber, String seatClass) {
+            return new Call(flightNumber, name, seatNumber, seatClass, null);
+        }
+
+        static Call removal(String flightNumber, String passengerId) {
+            return new Call(flightNumber, null, null, null, passengerId);
+        }
+
+        HttpRequest request(String baseUrl) {
+            if (passengerId != null) {
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/" + flightNumber + "/passengers/" + passengerId))
+                        .timeout(java.time.Duration.ofSeconds(30))
+                        .DELETE()
+                        .build();
+            }
+            String body = "{\"name\":\"" + name + "\",\"seatNumber\":\"" + seatNumber + "\",\"seatClass\":\"" + seatClass + "\"}";
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/" + flightNumber + "/passengers"))
+                    .timeout(java.time.Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.airpot.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free recorder of request latencies for a fixed number of requests.
+ *
+ */
+class LatencyRecorder {
+
+    private final AtomicLongArray latencies;
+    private final AtomicInteger count = new AtomicInteger();
+
+    LatencyRecorder(int capacity) {
+        this.latencies = new AtomicLongArray(capacity);
+    }
+
+    void record(long nanos) {
+        int index = count.getAndIncrement();
+        if (index < latencies.length()) {
+            latencies.set(index, nanos);
+        }
+    }
+
+    int count() {
+        return Math.min(count.get(), latencies.length());
+    }
+
+    /**
+     * Returns the latency percentiles in milliseconds.
+     *
+     * @param percentiles the percentiles to compute, e.g. 50.0, 99.0, 99.9
+     * @return one value per requested percentile, 0 if nothing was recorded
+     */
+    double[] percentilesMillis(double... percentiles) {
+        int n = count();
+        long[] sorted = new long[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        double[] result = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (n > 0) {
+                int rank = (int) Math.ceil(percentiles[i] / 100.0 * n) - 1;
+                result[i] = sorted[Math.max(0, Math.min(rank, n - 1))] / 1_000_000.0;
+            }
+        }
+        return result;
+    }
+}
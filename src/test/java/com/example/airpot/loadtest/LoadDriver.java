@@ -0,0 +1,106 @@
+package com.example.airpot.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Fires planned HTTP calls with a fixed number in flight and measures throughput and latency.
+ * Each call runs on its own virtual thread; connection failures are counted as status -1.
+ *
+ */
+class LoadDriver {
+
+    static final int CONNECTION_FAILED = -1;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    HttpClient httpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Sends every call, keeping at most {@code concurrency} requests in flight.
+     *
+     * @param calls the planned calls, sent in order
+     * @param toRequest builds the HTTP request of a call
+     * @param concurrency the number of concurrent requests
+     * @param onResponse receives each call with its response status, from the sending thread
+     * @param <T> the call type
+     * @return the measured result
+     */
+    <T> Result run(List<T> calls, Function<T, HttpRequest> toRequest, int concurrency, ObjIntConsumer<T> onResponse)
+            throws InterruptedException {
+        LatencyRecorder latencies = new LatencyRecorder(calls.size());
+        Map<Integer, AtomicInteger> statusCounts = new ConcurrentHashMap<>();
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (T call : calls) {
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        long begin = System.nanoTime();
+                        int status = send(toRequest.apply(call));
+                        latencies.record(System.nanoTime() - begin);
+                        statusCounts.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+                        onResponse.accept(call, status);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Map<Integer, Integer> statuses = new HashMap<>();
+        statusCounts.forEach((status, count) -> statuses.put(status, count.get()));
+        return new Result(calls.size(), concurrency, elapsedSeconds, latencies.percentilesMillis(50.0, 99.0, 99.9), statuses);
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            return CONNECTION_FAILED;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return CONNECTION_FAILED;
+        }
+    }
+
+    /**
+     * Throughput, p50/p99/p999 latency in milliseconds and response status counts of one run.
+     */
+    record Result(int requests, int concurrency, double elapsedSeconds, double[] percentiles, Map<Integer, Integer> statusCounts) {
+
+        Map<String, Object> toReport() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("requests", requests);
+            report.put("concurrency", concurrency);
+            report.put("elapsedSeconds", elapsedSeconds);
+            report.put("throughputPerSecond", requests / elapsedSeconds);
+            report.put("p50Millis", percentiles[0]);
+            report.put("p99Millis", percentiles[1]);
+            report.put("p999Millis", percentiles[2]);
+            report.put("statusCounts", statusCounts);
+            return report;
+        }
+    }
+}
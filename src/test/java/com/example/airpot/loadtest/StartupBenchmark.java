@@ -0,0 +1,152 @@
+package com.example.airpot.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Versions;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.embed.process.distribution.Version;
+import de.flapdoodle.reverse.TransitionWalker;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the time from launching the packaged application to its first successful
+ * {@code GET /api/flights}, for the plain jar, for the AOT-processed jar with the fast-startup
+ * profile, and for the same with the class data sharing archive. Every launch is a fresh JVM
+ * against the same embedded MongoDB; the plain jar reseeds the sample flights as it always does.
+ * <p>
+ * Not a JUnit test, as it needs the jar built by the package phase: run by the fast-startup
+ * Maven profile with {@code -Dstartup.benchmark.skip=false}. The results are printed and
+ * written as JSON to the given report file.
+ *
+ */
+public final class StartupBenchmark {
+
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private final Path logDirectory;
+
+    private StartupBenchmark(Path logDirectory) {
+        this.logDirectory = logDirectory;
+    }
+
+    /**
+     * @param args the plain jar, the directory of the extracted fast-startup jar and its archive,
+     *             the number of launches per variant, and the report file
+     */
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(args[0]);
+        Path fastStartup = Path.of(args[1]);
+        int runs = Integer.parseInt(args[2]);
+        Path report = Path.of(args[3]);
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Path extractedJar = fastStartup.resolve(jar.getFileName());
+
+        Version version = Versions.withFeatures(Version.of(System.getProperty("de.flapdoodle.mongodb.embedded.version", "7.0.14")));
+        try (TransitionWalker.ReachedState<RunningMongodProcess> mongod = Mongod.instance().start(version)) {
+            ServerAddress address = mongod.current().getServerAddress();
+            List<String> mongo = List.of("--spring.data.mongodb.host=" + address.getHost(),
+                    "--spring.data.mongodb.port=" + address.getPort());
+            Files.createDirectories(report.getParent());
+            StartupBenchmark benchmark = new StartupBenchmark(report.getParent());
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            results.put("runs", runs);
+            results.put("default", benchmark.measure("default", runs,
+                    command(List.of(java, "-jar", jar.toString()), mongo)));
+            results.put("aotLazy", benchmark.measure("aot-lazy", runs,
+                    command(List.of(java, "-Dspring.aot.enabled=true", "-jar", extractedJar.toString(),
+                            "--spring.profiles.active=fast-startup"), mongo)));
+            results.put("aotLazyCds", benchmark.measure("aot-lazy-cds", runs,
+                    command(List.of(java, "-XX:SharedArchiveFile=" + fastStartup.resolve("application.jsa"),
+                            "-Dspring.aot.enabled=true", "-jar", extractedJar.toString(),
+                            "--spring.profiles.active=fast-startup"), mongo)));
+
+            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(results);
+            System.out.println("Time to a ready GET /api/flights (ms): " + json);
+            Files.writeString(report, json);
+        }
+    }
+
+    private static List<String> command(List<String> launch, List<String> arguments) {
+        List<String> command = new ArrayList<>(launch);
+        command.addAll(arguments);
+        return command;
+    }
+
+    private Map<String, Object> measure(String variant, int runs, List<String> command) throws Exception {
+        List<Long> millis = new ArrayList<>(runs);
+        for (int run = 0; run < runs; run++) {
+            millis.add(launchUntilReady(variant + "-" + run, command));
+        }
+        List<Long> sorted = millis.stream().sorted().toList();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("millis", millis);
+        result.put("min", sorted.getFirst());
+        result.put("median", sorted.get(sorted.size() / 2));
+        result.put("max", sorted.getLast());
+        return result;
+    }
+
+    /**
+     * Starts the application and polls {@code GET /api/flights} until it answers 200.
+     *
+     * @return the milliseconds from the launch to the first 200
+     */
+    private long launchUntilReady(String name, List<String> command) throws Exception {
+        int port = freePort();
+        List<String> withPort = new ArrayList<>(command);
+        withPort.add("--server.port=" + port);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/flights"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(withPort)
+                .redirectErrorStream(true)
+                .redirectOutput(logDirectory.resolve("startup-benchmark-" + name + ".log").toFile())
+                .start();
+        try {
+            while (System.nanoTime() - started < READY_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(name + " exited with " + process.exitValue() + " before it was ready");
+                }
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - started).toMillis();
+                    }
+                } catch (IOException ex) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(name + " was not ready within " + READY_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
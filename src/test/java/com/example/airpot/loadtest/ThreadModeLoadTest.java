@@ -0,0 +1,140 @@
+package com.example.airpot.loadtest;
+
+import com.example.airpot.AirpotDomainDemoApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the throughput and latency of the platform-thread and the virtual-thread
+ * execution modes ({@code spring.threads.virtual.enabled}) of the servlet stack, and of the
+ * reactive profile, at 1k and 10k concurrent connections. Each mode runs in its own
+ * application context on its own embedded MongoDB, with the same seeded mix of route
+ * searches (aggregations on MongoDB) and bookings.
+ * <p>
+ * Excluded from the default build; run with {@code mvn -Pload-test test -Dtest=ThreadModeLoadTest}.
+ * Tunable through {@code loadtest.threads.requests}, {@code loadtest.threads.concurrency}
+ * (comma separated) and {@code loadtest.seed}. The comparison is logged and written to
+ * {@code target/loadtest-thread-modes.json}.
+ *
+ */
+@Tag("load")
+class ThreadModeLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadModeLoadTest.class);
+    private static final String[][] ROUTES = {
+            {"JFK", "LAX"}, {"LAX", "ORD"}, {"ORD", "JFK"}, {"ATL", "DFW"}, {"DFW", "SEA"}
+    };
+    private static final int FLIGHTS_PER_ROUTE = 10;
+
+    private final int requests = Integer.getInteger("loadtest.threads.requests", 50_000);
+    private final String concurrencyLevels = System.getProperty("loadtest.threads.concurrency", "1000,10000");
+    private final long seed = Long.getLong("loadtest.seed", 42L);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoadDriver loadDriver = new LoadDriver();
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        comparison.put("platform", runMode("test"));
+        comparison.put("virtual", runMode("test", "virtual-threads"));
+        comparison.put("reactive", runMode("test", "reactive"));
+
+        log.info("Thread mode comparison: {}", comparison);
+        Path target = Path.of("target", "loadtest-thread-modes.json");
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(comparison));
+    }
+
+    private Map<String, Object> runMode(String... profiles) throws Exception {
+        Map<String, Object> results = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AirpotDomainDemoApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0",
+                        "logging.level.com.example.airpot=INFO",
+                        "logging.level.org.springframework.data.mongodb=INFO",
+                        "logging.level.org.springframework.web=INFO")
+                .run()) {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort() + "/api/flights";
+            List<String> flightNumbers = createFlights(baseUrl);
+
+            for (String level : concurrencyLevels.split(",")) {
+                int concurrency = Integer.parseInt(level.trim());
+                List<HttpRequest> calls = plan(baseUrl, flightNumbers, concurrency);
+                LoadDriver.Result result = loadDriver.run(calls, request -> request, concurrency, (request, status) -> { });
+                assertThat(result.statusCounts().values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(requests);
+                results.put(Integer.toString(concurrency), result.toReport());
+            }
+        }
+        return results;
+    }
+
+    private List<String> createFlights(String baseUrl) throws IOException, InterruptedException {
+        List<String> flightNumbers = new ArrayList<>();
+        LocalDateTime departure = LocalDateTime.now().plusDays(1);
+        for (int r = 0; r < ROUTES.length; r++) {
+            for (int i = 0; i < FLIGHTS_PER_ROUTE; i++) {
+                String flightNumber = "TM" + r + String.format("%02d", i);
+                String body = objectMapper.writeValueAsString(Map.of(
+                        "flightNumber", flightNumber,
+                        "origin", ROUTES[r][0],
+                        "destination", ROUTES[r][1],
+                        "scheduledDeparture", departure.plusHours(i).toString(),
+                        "scheduledArrival", departure.plusHours(i + 4).toString()));
+                HttpResponse<Void> response = loadDriver.httpClient().send(HttpRequest.newBuilder(URI.create(baseUrl))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), HttpResponse.BodyHandlers.discarding());
+                assertThat(response.statusCode()).isEqualTo(201);
+                flightNumbers.add(flightNumber);
+            }
+        }
+        return flightNumbers;
+    }
+
+    /**
+     * Plans 80% route searches and 20% bookings on random seats; seat conflicts are expected and fine.
+     */
+    private List<HttpRequest> plan(String baseUrl, List<String> flightNumbers, int concurrency) {
+        Random random = new Random(seed + concurrency);
+        List<HttpRequest> calls = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            if (random.nextInt(5) > 0) {
+                String[] route = ROUTES[random.nextInt(ROUTES.length)];
+                calls.add(HttpRequest.newBuilder(URI.create(baseUrl + "/route?origin=" + route[0] + "&destination=" + route[1]))
+                        .GET()
+                        .build());
+            } else {
+                String flightNumber = flightNumbers.get(random.nextInt(flightNumbers.size()));
+                String body = "{\"name\":\"TM passenger " + concurrency + "-" + i + "\",\"seatNumber\":\""
+                        + (random.nextInt(99) + 1) + (char) ('A' + random.nextInt(6)) + "\",\"seatClass\":\"Economy\"}";
+                calls.add(HttpRequest.newBuilder(URI.create(baseUrl + "/" + flightNumber + "/passengers"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build());
+            }
+        }
+        return calls;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.airpot.repository;
+
+import com.example.airpot.config.MongoConversionsConfig;
+import com.example.airpot.domain.Flight;
+import com.example.airpot.domain.Passenger;
+import com.example.airpot.domain.SeatAssignment;
+import com.example.airpot.domain.SeatClass;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatAssignmentConvertersTests {
+
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoConversionsConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    void embeddedPassengerKeepsTheExternalForm() {
+        Passenger passenger = passenger(SeatAssignment.of("12A", "First Class"));
+
+        Document document = write(passenger);
+
+        assertThat(document.get("seatAssignment", Document.class))
+                .isEqualTo(new Document("seatNumber", "12A").append("seatClass", "First Class"));
+        Passenger read = converter.read(Passenger.class, document);
+        assertThat(read.getSeatAssignment()).isSameAs(passenger.getSeatAssignment());
+        assertThat(read.getSeatAssignment().getSeat()).isEqualTo(66);
+        assertThat(read.getSeatAssignment().getSeatClass()).isEqualTo(SeatClass.FIRST_CLASS);
+    }
+
+    @Test
+    void seatReferenceReadsWithoutClass() {
+        Passenger passenger = passenger(SeatAssignment.of("12A", "Economy"));
+
+        Document reference = FlightQueries.seatReference(passenger);
+        Passenger read = converter.read(Passenger.class, reference);
+
+        assertThat(read.getId()).isEqualTo(passenger.getId());
+        assertThat(read.getSeatAssignment()).isSameAs(SeatAssignment.of("12A", null));
+        assertThat(read.getSeatAssignment().getSeatClass()).isNull();
+        // written back by the mapping converter, a reference has the same form
+        assertThat(write(read).get("seatAssignment")).isEqualTo(reference.get("seatAssignment"));
+    }
+
+    @Test
+    void passengerWithoutSeatHasNoSeatAssignment() {
+        Document document = write(passenger(null));
+
+        assertThat(document).doesNotContainKey("seatAssignment");
+        assertThat(converter.read(Passenger.class, document).getSeatAssignment()).isNull();
+    }
+
+    @Test
+    void mapsQueriesBelowTheSeatAssignment() {
+        QueryMapper queryMapper = new QueryMapper(converter);
+        Document query = new Document("passengers.seatAssignment.seatNumber", "12A")
+                .append("passengers.seatAssignment.seatClass", SeatClass.BUSINESS);
+
+        Document mapped = queryMapper.getMappedObject(query, converter.getMappingContext().getPersistentEntity(Flight.class));
+
+        assertThat(mapped).isEqualTo(new Document("passengers.seatAssignment.seatNumber", "12A")
+                .append("passengers.seatAssignment.seatClass", "Business"));
+    }
+
+    @Test
+    void validatesSeatNumberAndClass() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        assertThat(validator.validate(SeatAssignment.of("12A", "Economy"))).isEmpty();
+        assertThat(validator.validate(SeatAssignment.of(null, "Economy")))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("seatNumber");
+        assertThat(validator.validate(SeatAssignment.of("12A", null)))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("seatClass");
+        assertThat(validator.validate(passenger(SeatAssignment.of(null, null)))).hasSize(2);
+    }
+
+    private Document write(Passenger passenger) {
+        Document document = new Document();
+        converter.write(passenger, document);
+        return document;
+    }
+
+    private static Passenger passenger(SeatAssignment seatAssignment) {
+        return Passenger.builder()
+                .id(new ObjectId().toHexString())
+                .name("Ada Lovelace")
+                .seatAssignment(seatAssignment)
+                .build();
+    }
+}